@@ -8,6 +8,7 @@ plugins {
     `maven-publish`
     id("com.diffplug.spotless") version "6.25.0"
     id("org.jooq.jooq-codegen-gradle") version "3.19.6"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import one.query.api.mapper.impl.PostgresMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@code convertValueSafely} of the mapper with {@link ObjectMapper#convertValue(Object,
+ * Class)} for the raw values of the filters. The mapper is created without an {@link ObjectMapper},
+ * since the converters are used only with the one the mapper creates itself. Run by {@code
+ * ./gradlew :lib:jmh}
+ *
+ * @version 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertValueBenchmark {
+  @Param({"Integer", "BigDecimal", "UUID"})
+  private String type;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final PostgresMapper mapper = new PostgresMapper(Map.of());
+
+  private Object rawValue;
+  private Class<?> targetType;
+
+  @Setup
+  public void setup() {
+    switch (type) {
+      case "Integer" -> {
+        rawValue = "12345";
+        targetType = Integer.class;
+      }
+      case "BigDecimal" -> {
+        rawValue = "12345.67";
+        targetType = BigDecimal.class;
+      }
+      case "UUID" -> {
+        rawValue = "123e4567-e89b-12d3-a456-426614174000";
+        targetType = UUID.class;
+      }
+      default -> throw new IllegalArgumentException("Unknown type: " + type);
+    }
+  }
+
+  @Benchmark
+  public Object converters() {
+    return mapper.convertValueSafely(rawValue, targetType);
+  }
+
+  @Benchmark
+  public Object objectMapper() {
+    return objectMapper.convertValue(rawValue, targetType);
+  }
+}
@@ -41,9 +41,23 @@ public interface OneQueryCommonTableStep<R extends Record> {
 
   /**
    * Returns the total number of locations after calling {@link OneQueryPaginationStep#paginate}, if
-   * {@link OneQueryPaginationStep#paginate} was not called, it will return {@code null}
+   * {@link OneQueryPaginationStep#paginate} was not called, it will return {@code null}. If the
+   * total is {@link one.query.api.model.TotalType#UNKNOWN}, for example the time boxed count timed
+   * out and there is no estimate, it will return {@code -1}, the same as {@link
+   * one.query.api.model.PaginationResult#total()}
    *
-   * @return Total number of pagination results or {@code null}
+   * @return Total number of pagination results, {@code -1} if unknown, or {@code null}
    */
   Long getTotal();
+
+  /**
+   * Returns whether the primary key, a unique key or an index of the driving table starts with the
+   * sort fields after calling {@link OneQueryPaginationStep#stableSort()}, so the sorted page can
+   * be read from the index. The indexes are taken from the generated jOOQ tables, {@code false}
+   * means the index is missing in the generated code and should be created
+   *
+   * @return whether the sort is indexed or {@code null} if {@link
+   *     OneQueryPaginationStep#stableSort()} was not called or the query has no driving table
+   */
+  Boolean isSortIndexed();
 }
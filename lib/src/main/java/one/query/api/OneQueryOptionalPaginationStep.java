@@ -25,4 +25,7 @@ import org.jooq.Record;
  * @version 0.0.1
  */
 public interface OneQueryOptionalPaginationStep<R extends Record>
-    extends OneQueryPaginationStep<R>, OneQueryCollectStep<R> {}
+    extends OneQueryPaginationStep<R>,
+        OneQuerySliceStep<R>,
+        OneQuerySeekStep<R>,
+        OneQueryCollectStep<R> {}
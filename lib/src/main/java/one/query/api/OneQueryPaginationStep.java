@@ -16,6 +16,8 @@
 package one.query.api;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.Optional;
+import one.query.api.model.Count;
 import one.query.api.model.Page;
 import org.jooq.Record;
 
@@ -57,4 +59,65 @@ public interface OneQueryPaginationStep<R extends Record> {
    */
   @NotNull
   OneQueryPaginationResultStep<R> paginate(int page, int size);
+
+  /**
+   * Takes {@link Page} and {@link Count} that defines how the total number of elements is
+   * calculated, returns {@link OneQueryPaginationResultStep}.
+   *
+   * <p>Page numbering must start with 0.
+   *
+   * @see Count
+   */
+  @NotNull
+  OneQueryPaginationResultStep<R> paginate(@NotNull Page page, @NotNull Count count);
+
+  /**
+   * Enables the deferred join: the page is first read over the primary key of the driving table,
+   * the first table of {@code from}, with the same filters, sort, {@code limit} and {@code offset},
+   * and then the full rows are read only for the keys of the page, so the database does not build
+   * the wide rows of the skipped offset.
+   *
+   * <p>The query is executed as is if the driving table has no primary key or the rows are not rows
+   * of the driving table, for example, with {@code distinct}, {@code group by}, an aggregate or a
+   * window function, a {@code right} or {@code full join}, or a join whose {@code on} condition
+   * does not compare a primary or unique key of the joined table, which can multiply the rows of
+   * the driving table.
+   */
+  @NotNull
+  OneQueryOptionalPaginationStep<R> deferJoin();
+
+  /**
+   * Appends the fields of the primary key of the driving table, the first table of {@code from}, to
+   * the sort if the sort fields do not contain all the fields of its primary key or of a unique
+   * key, so the rows with equal sort values are always returned in the same order and the page
+   * boundaries do not repeat or skip rows. The keys are taken from the generated jOOQ tables.
+   *
+   * <p>The sort is kept as is if the rows are not rows of the driving table, for example, with
+   * {@code distinct}, {@code group by} or a join that does not compare a primary or unique key of
+   * the joined table, since the primary key of the driving table does not make such a sort unique.
+   * Whether an index of the driving table matches the sort is returned by {@link
+   * OneQueryCommonTableStep#isSortIndexed()}.
+   */
+  @NotNull
+  OneQueryOptionalPaginationStep<R> stableSort();
+
+  /**
+   * Returns the number of the page of the passed size that contains the row with the passed primary
+   * key of the driving table, the first table of {@code from}, under the current filters and sort,
+   * empty if no row matches the key and the filters. The position of the row is computed by one
+   * query: if the sort is unique by {@code not null} fields of the driving table, the rows before
+   * the sort values of the row are counted, otherwise the rows are numbered by {@code row_number()}
+   * over the sort.
+   *
+   * <p>Page numbering starts with 0. The values of a composite primary key are passed in the order
+   * of its fields.
+   *
+   * @throws IllegalArgumentException if a row of the query is not a single row of the driving
+   *     table, for example, with {@code group by} or a join of a child table, which repeat the key
+   *     in several rows
+   * @throws IllegalStateException if the query is not sorted or the driving table has no primary
+   *     key
+   */
+  @NotNull
+  Optional<Long> pageOf(int size, @NotNull Object... key);
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api;
+
+import jakarta.validation.constraints.NotNull;
+import one.query.api.model.Page;
+import one.query.api.model.PaginationResult;
+import org.jooq.Record;
+
+/**
+ * An interface containing keyset (seek) pagination methods, returns the following step: {@link
+ * OneQueryPaginationResultStep}.
+ *
+ * <p>Unlike {@link OneQueryPaginationStep}, the page is not located with {@code .offset()}. The
+ * current sort fields are turned into a row value predicate {@code (a, b) > (?, ?)} built from the
+ * sort key values of the last row of the previous page, so the cost of a page does not depend on
+ * its depth. The total number of elements is still calculated using the {@code .selectCount()}.
+ *
+ * <p>The sort fields must be part of the selected fields, must not contain {@code null} values and
+ * together must be unique, otherwise rows can be skipped or repeated between pages.
+ *
+ * <p>Example:
+ *
+ * <pre><code>
+ *     PaginationResult&lt;CategoriesRecord&gt; first =
+ *         OneQuery.query(ctx.selectFrom(CATEGORIES))
+ *             .sortBy(CATEGORIES.CATEGORYID)
+ *             .seek(null, 5)
+ *             .toPaginationResult(CategoriesRecord.class);
+ *
+ *     PaginationResult&lt;CategoriesRecord&gt; second =
+ *         OneQuery.query(ctx.selectFrom(CATEGORIES))
+ *             .sortBy(CATEGORIES.CATEGORYID)
+ *             .seek(first.nextCursor(), 5)
+ *             .toPaginationResult(CategoriesRecord.class);
+ * </code></pre>
+ *
+ * @version 0.1.0
+ */
+public interface OneQuerySeekStep<R extends Record> {
+  /**
+   * Takes an opaque cursor returned in {@link PaginationResult#nextCursor()} or {@link
+   * PaginationResult#previousCursor()} and returns {@link OneQueryPaginationResultStep}. If the
+   * cursor is {@code null}, the first page is returned.
+   *
+   * <p>The cursor is bound to the sort fields of the query it was created by, it must be used with
+   * the same sort.
+   */
+  @NotNull
+  OneQueryPaginationResultStep<R> seek(String cursor, int size);
+
+  /**
+   * Takes {@link Page} and the sort key values of the last row of the previous page, in the order
+   * of the sort fields, returns {@link OneQueryPaginationResultStep}. If no values are passed, the
+   * first page is returned.
+   *
+   * <p>The page number is not used to locate rows, it is only returned in {@link PaginationResult}
+   * and in the cursors.
+   */
+  @NotNull
+  OneQueryPaginationResultStep<R> seek(@NotNull Page page, Object... lastSeen);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api;
+
+import jakarta.validation.constraints.NotNull;
+import one.query.api.model.Slice;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+
+/**
+ * The interface results in {@link Slice}, which are terminal methods. The collect methods return
+ * the records of the page without the extra row.
+ *
+ * @version 0.1.0
+ */
+public interface OneQuerySliceResultStep<R extends Record> extends OneQueryCollectStep<R> {
+  /**
+   * The method takes a class to which all objects in the response must be cast. If you need to
+   * welcome an entity to the generated jooq class, you need to use the classes from the <b>{@code
+   * pojos}</b> package.
+   */
+  @NotNull
+  <C> Slice<C> toSliceResult(Class<C> clazz);
+
+  /** The method accepts an entity mapper with {@link Record} as a parameter. */
+  @NotNull
+  <C> Slice<C> toSliceResult(RecordMapper<R, C> mapper);
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api;
+
+import jakarta.validation.constraints.NotNull;
+import one.query.api.model.Page;
+import one.query.api.model.Slice;
+import org.jooq.Record;
+
+/**
+ * An interface containing pagination methods without the total number of elements, returns the
+ * following step: {@link OneQuerySliceResultStep}.
+ *
+ * <p>Unlike {@link OneQueryPaginationStep}, the count query is not executed. The page query reads
+ * one row more than the page size using {@code .limit()}, the extra row only shows that the next
+ * page exists and is removed before the records are mapped. Suitable for infinite scroll and feeds
+ * that do not show the number of pages.
+ *
+ * @version 0.1.0
+ */
+public interface OneQuerySliceStep<R extends Record> {
+  /**
+   * The method takes {@link Page} and returns {@link OneQuerySliceResultStep}, the result is {@link
+   * Slice} with the {@code hasNext} flag instead of the total number of elements.
+   *
+   * <p>Page numbering must start with 0.
+   */
+  @NotNull
+  OneQuerySliceResultStep<R> slice(@NotNull Page page);
+
+  /**
+   * Takes {@code page}, {@code size}, returns {@link OneQuerySliceResultStep}, the result is {@link
+   * Slice} with the {@code hasNext} flag instead of the total number of elements.
+   *
+   * <p>Page numbering must start with 0.
+   */
+  @NotNull
+  OneQuerySliceResultStep<R> slice(int page, int size);
+}
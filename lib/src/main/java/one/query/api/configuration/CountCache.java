@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.jooq.Query;
+
+/**
+ * A bounded cache of the total number of elements counted by {@code .paginate()}.
+ *
+ * <p>The key of the cache is the rendered SQL of the count query together with its bind values, so
+ * the same query shape with the same filter values reuses the counted total and the count query is
+ * not executed. An entry is evicted when its time to live expires or when the cache is full, in
+ * which case the least recently used entry is evicted.
+ *
+ * <p>The cache does not know about the data source of the query, the counted total of the same
+ * query is shared between all connections. Use a short time to live if the counted tables change
+ * often, a cached total can be stale for up to the time to live. The cache is registered by {@link
+ * OneQueryConfiguration#registerCountCache(CountCache)} and used by all queries.
+ *
+ * @author Artur Perun
+ * @version 0.1.0
+ */
+public class CountCache {
+  private final long ttlNanos;
+  private final int maximumSize;
+  private final Map<QueryKey, Entry> entries;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * @param ttl the time to live of a counted total
+   * @param maximumSize the maximum number of counted totals in the cache
+   */
+  public CountCache(final Duration ttl, final int maximumSize) {
+    Objects.requireNonNull(ttl, "Time to live must not be null");
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException(
+          "Time to live must be positive. Passed value: [%s]".formatted(ttl));
+    }
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException(
+          "Maximum size must be greater than 0. Passed value: [%s]".formatted(maximumSize));
+    }
+
+    this.ttlNanos = ttl.toNanos();
+    this.maximumSize = maximumSize;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /* ---------- .get() ---------------------------------------------------------------------------------------------- */
+
+  /**
+   * Returns the cached total of the count query, if the total is not cached or has expired, it is
+   * counted by the passed {@code counter} and cached. The counter is called outside the lock, so
+   * the same query can be counted by several threads at the same time
+   */
+  public Long get(final Query countQuery, final Supplier<Long> counter) {
+    QueryKey key = QueryKey.of(countQuery);
+    Optional<Long> cached = getIfPresent(key);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    Long total = counter.get();
+    if (total != null) {
+      put(key, total);
+    }
+    return total;
+  }
+
+  /** Returns the cached total of the count query if it is cached and has not expired */
+  public Optional<Long> getIfPresent(final Query countQuery) {
+    return getIfPresent(QueryKey.of(countQuery));
+  }
+
+  /* ---------- .put() ---------------------------------------------------------------------------------------------- */
+
+  /** Caches the counted total of the count query */
+  public void put(final Query countQuery, final long total) {
+    put(QueryKey.of(countQuery), total);
+  }
+
+  /* ---------- .invalidate() --------------------------------------------------------------------------------------- */
+
+  /** Removes all cached totals, the statistics are not reset */
+  public synchronized void invalidateAll() {
+    entries.clear();
+  }
+
+  /* ---------- statistics ------------------------------------------------------------------------------------------ */
+
+  /** The number of cached totals, including the expired ones that have not been evicted yet */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** Returns a snapshot of the cache statistics */
+  public Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * The statistics of the cache since it was created.
+   *
+   * @param hits the number of totals taken from the cache
+   * @param misses the number of totals that had to be counted
+   * @param evictions the number of totals evicted because they expired or the cache was full
+   */
+  public record Stats(long hits, long misses, long evictions) {
+    /** The share of the totals taken from the cache, {@code 0} if the cache has not been used */
+    public double hitRate() {
+      long requests = hits + misses;
+      return requests == 0 ? 0 : (double) hits / requests;
+    }
+  }
+
+  /* ---------- private methods ------------------------------------------------------------------------------------- */
+
+  private synchronized Optional<Long> getIfPresent(final QueryKey key) {
+    Entry entry = entries.get(key);
+    if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+      hits.increment();
+      return Optional.of(entry.total);
+    }
+
+    if (entry != null) {
+      entries.remove(key);
+      evictions.increment();
+    }
+    misses.increment();
+    return Optional.empty();
+  }
+
+  private synchronized void put(final QueryKey key, final long total) {
+    entries.put(key, new Entry(total, System.nanoTime() + ttlNanos));
+    if (entries.size() > maximumSize) {
+      evictExpired();
+    }
+
+    var iterator = entries.entrySet().iterator();
+    while (entries.size() > maximumSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+      evictions.increment();
+    }
+  }
+
+  private void evictExpired() {
+    long now = System.nanoTime();
+    if (entries.values().removeIf(entry -> entry.expiresAt - now <= 0)) {
+      evictions.add(maximumSize + 1L - entries.size());
+    }
+  }
+
+  private record Entry(long total, long expiresAt) {}
+}
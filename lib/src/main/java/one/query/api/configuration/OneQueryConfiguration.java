@@ -18,6 +18,7 @@ package one.query.api.configuration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import one.query.api.impl.OneQuery;
 import one.query.api.mapper.OneQueryMapper;
@@ -40,12 +41,20 @@ import org.jooq.SQLDialect;
  * need to call the {@code .register()} method on the mapper you create, as this configuration is
  * used to automatically load the mapper into {@link OneQuery}
  *
+ * <p>The configuration also holds the optional {@link CountCache}, if it is registered, the total
+ * number of elements counted by {@code .paginate()} is cached, the optional {@link
+ * PageBoundaryCache} of the page boundaries, and the threshold of the number of filter values above
+ * which the values are joined as a derived table instead of inline predicates.
+ *
  * @author Artur Perun
  * @version 0.0.1
  */
 @SuppressWarnings("unused")
 public class OneQueryConfiguration {
   private static final Map<SQLDialect, OneQueryMapper> MAPPERS = new ConcurrentHashMap<>();
+  private static volatile CountCache countCache;
+  private static volatile PageBoundaryCache pageBoundaryCache;
+  private static volatile int largeValuesThreshold = 1000;
 
   private OneQueryConfiguration() {}
 
@@ -89,7 +98,66 @@ public class OneQueryConfiguration {
     return mapper;
   }
 
+  /**
+   * Find a mapper by {@link SQLDialect}, if the mapper is not registered for the dialect, it is
+   * looked up by the {@link SQLDialect#family()} of the dialect.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends OneQueryMapper> Optional<T> findMapper(SQLDialect mapperDialect) {
+    OneQueryMapper mapper = MAPPERS.get(mapperDialect);
+    if (mapper == null) {
+      mapper = MAPPERS.get(mapperDialect.family());
+    }
+    return Optional.ofNullable((T) mapper);
+  }
+
   public static void removeMapper(SQLDialect mapperDialect) {
     MAPPERS.remove(mapperDialect);
   }
+
+  /** Register the cache of the total number of elements counted by {@code .paginate()} */
+  public static void registerCountCache(CountCache cache) {
+    countCache = cache;
+  }
+
+  /** Find the registered {@link CountCache} */
+  public static Optional<CountCache> findCountCache() {
+    return Optional.ofNullable(countCache);
+  }
+
+  public static void removeCountCache() {
+    countCache = null;
+  }
+
+  /** Register the cache of the page boundaries served by {@code .paginate()} */
+  public static void registerPageBoundaryCache(PageBoundaryCache cache) {
+    pageBoundaryCache = cache;
+  }
+
+  /** Find the registered {@link PageBoundaryCache} */
+  public static Optional<PageBoundaryCache> findPageBoundaryCache() {
+    return Optional.ofNullable(pageBoundaryCache);
+  }
+
+  public static void removePageBoundaryCache() {
+    pageBoundaryCache = null;
+  }
+
+  /**
+   * Set the number of values of {@link one.query.api.model.Prefix#EQ} and {@link
+   * one.query.api.model.Prefix#NE} filters above which the values are semi-joined as a derived
+   * table: {@code unnest} of an array by {@link one.query.api.mapper.impl.PostgresMapper}, {@code
+   * values} with inlined values by other dialects. By default, 1000
+   */
+  public static void setLargeValuesThreshold(int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException(
+          "Threshold must be greater than 0. Passed value: [%s]".formatted(threshold));
+    }
+    largeValuesThreshold = threshold;
+  }
+
+  public static int getLargeValuesThreshold() {
+    return largeValuesThreshold;
+  }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jooq.Query;
+
+/**
+ * A bounded cache of the page boundaries served by {@code .paginate()}, the sort values of the row
+ * that ends a page, so that a deeper page of the same query is read by the seek from the nearest
+ * known boundary instead of skipping all the previous rows by {@code offset}.
+ *
+ * <p>The key of the cache is the rendered SQL of the sorted query without {@code limit} together
+ * with its bind values, a boundary is stored by its position, the number of rows up to the boundary
+ * row, so the boundaries are shared by the pages of different sizes. A boundary is evicted when its
+ * time to live expires, the boundaries of a query are limited by {@code maximumBoundaries}, if
+ * there are more, the boundary with the smallest position is evicted, since the offset from the
+ * beginning is the cheapest. The queries are limited by {@code maximumSize}, if there are more, the
+ * boundaries of the least recently used query are evicted.
+ *
+ * <p>The cache does not know about the changes of the data, a boundary is exact only as long as no
+ * row is inserted or deleted before it, otherwise the page read by the seek differs from the page
+ * read by {@code offset} by the number of such rows, use a short time to live if the tables change
+ * often. The cache is registered by {@link
+ * OneQueryConfiguration#registerPageBoundaryCache(PageBoundaryCache)} and used by all queries.
+ *
+ * @author Artur Perun
+ * @version 0.1.0
+ */
+public class PageBoundaryCache {
+  private final long ttlNanos;
+  private final int maximumSize;
+  private final int maximumBoundaries;
+  private final Map<QueryKey, NavigableMap<Long, Entry>> entries;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * @param ttl the time to live of a boundary
+   * @param maximumSize the maximum number of queries in the cache
+   * @param maximumBoundaries the maximum number of boundaries of a query
+   */
+  public PageBoundaryCache(final Duration ttl, final int maximumSize, final int maximumBoundaries) {
+    Objects.requireNonNull(ttl, "Time to live must not be null");
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException(
+          "Time to live must be positive. Passed value: [%s]".formatted(ttl));
+    }
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException(
+          "Maximum size must be greater than 0. Passed value: [%s]".formatted(maximumSize));
+    }
+    if (maximumBoundaries < 1) {
+      throw new IllegalArgumentException(
+          "Maximum boundaries must be greater than 0. Passed value: [%s]"
+              .formatted(maximumBoundaries));
+    }
+
+    this.ttlNanos = ttl.toNanos();
+    this.maximumSize = maximumSize;
+    this.maximumBoundaries = maximumBoundaries;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /* ---------- .floor() -------------------------------------------------------------------------------------------- */
+
+  /**
+   * Returns the boundary of the query with the greatest position that is not greater than the
+   * passed position and has not expired
+   *
+   * @param query the sorted query without {@code limit}
+   * @param position the number of rows before the first row of the page
+   */
+  public synchronized Optional<Boundary> floor(final Query query, final long position) {
+    NavigableMap<Long, Entry> boundaries = entries.get(QueryKey.of(query));
+    long now = System.nanoTime();
+    while (boundaries != null && !boundaries.isEmpty()) {
+      Map.Entry<Long, Entry> entry = boundaries.floorEntry(position);
+      if (entry == null) {
+        break;
+      }
+      if (entry.getValue().expiresAt - now > 0) {
+        hits.increment();
+        return Optional.of(entry.getValue().boundary);
+      }
+      boundaries.remove(entry.getKey());
+      evictions.increment();
+    }
+
+    misses.increment();
+    return Optional.empty();
+  }
+
+  /* ---------- .put() ---------------------------------------------------------------------------------------------- */
+
+  /**
+   * Caches the boundary of the query
+   *
+   * @param query the sorted query without {@code limit}
+   * @param position the number of rows before the boundary, including the boundary row
+   * @param values the values of the sort fields of the boundary row
+   */
+  public synchronized void put(final Query query, final long position, final List<?> values) {
+    if (position < 1) {
+      throw new IllegalArgumentException(
+          "Position must be greater than 0. Passed value: [%s]".formatted(position));
+    }
+
+    NavigableMap<Long, Entry> boundaries =
+        entries.computeIfAbsent(QueryKey.of(query), key -> new TreeMap<>());
+    Boundary boundary = new Boundary(position, List.copyOf(values));
+    boundaries.put(position, new Entry(boundary, System.nanoTime() + ttlNanos));
+    if (boundaries.size() > maximumBoundaries) {
+      evictExpired(boundaries);
+    }
+    while (boundaries.size() > maximumBoundaries) {
+      boundaries.pollFirstEntry();
+      evictions.increment();
+    }
+
+    var iterator = entries.values().iterator();
+    while (entries.size() > maximumSize && iterator.hasNext()) {
+      evictions.add(iterator.next().size());
+      iterator.remove();
+    }
+  }
+
+  /* ---------- .invalidate() --------------------------------------------------------------------------------------- */
+
+  /** Removes all cached boundaries, the statistics are not reset */
+  public synchronized void invalidateAll() {
+    entries.clear();
+  }
+
+  /* ---------- statistics ------------------------------------------------------------------------------------------ */
+
+  /** The number of queries with cached boundaries */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** Returns a snapshot of the cache statistics */
+  public Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * The boundary of the page.
+   *
+   * @param position the number of rows before the boundary, including the boundary row
+   * @param values the values of the sort fields of the boundary row
+   */
+  public record Boundary(long position, List<Object> values) {}
+
+  /**
+   * The statistics of the cache since it was created.
+   *
+   * @param hits the number of pages read by the seek from a cached boundary
+   * @param misses the number of pages without a cached boundary before them
+   * @param evictions the number of boundaries evicted because they expired or the cache was full
+   */
+  public record Stats(long hits, long misses, long evictions) {
+    /** The share of the pages read from a cached boundary, {@code 0} if it has not been used */
+    public double hitRate() {
+      long requests = hits + misses;
+      return requests == 0 ? 0 : (double) hits / requests;
+    }
+  }
+
+  /* ---------- private methods ------------------------------------------------------------------------------------- */
+
+  private void evictExpired(final NavigableMap<Long, Entry> boundaries) {
+    long now = System.nanoTime();
+    int size = boundaries.size();
+    boundaries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+    evictions.add(size - (long) boundaries.size());
+  }
+
+  private record Entry(Boundary boundary, long expiresAt) {}
+}
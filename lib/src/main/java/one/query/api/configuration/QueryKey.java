@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jooq.Query;
+
+/**
+ * The key of the caches of the configuration, the rendered SQL and the bind values of the query.
+ * Array bind values are compared by their elements
+ *
+ * @version 0.1.0
+ */
+record QueryKey(String sql, List<Object> bindValues) {
+  static QueryKey of(final Query query) {
+    List<Object> bindValues = new ArrayList<>();
+    for (Object value : query.getBindValues()) {
+      bindValues.add(value instanceof Object[] array ? Arrays.asList(array) : value);
+    }
+    return new QueryKey(query.getSQL(), bindValues);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * The count query and the page query started in parallel by {@link
+ * one.query.api.model.Count#concurrent(Executor)}. Each query is executed on its own thread and
+ * therefore takes its own connection from the {@link org.jooq.ConnectionProvider}. If one of the
+ * queries fails, the statement of the other one is cancelled, and both getters throw the error of
+ * the failed query rather than the cancellation of the other one.
+ *
+ * @version 0.1.0
+ */
+final class ConcurrentPage<R extends Record> {
+  private final ResultQuery<Record1<Integer>> countQuery;
+  private final Select<R> pageQuery;
+  private final CompletableFuture<Long> total;
+  private final CompletableFuture<Result<R>> rows;
+
+  /** The first error of the queries, which caused the other query to be cancelled */
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  ConcurrentPage(
+      final ResultQuery<Record1<Integer>> countQuery,
+      final Select<R> pageQuery,
+      final Executor executor) {
+    this.countQuery = countQuery;
+    this.pageQuery = pageQuery;
+    this.total = CompletableFuture.supplyAsync(() -> countQuery.fetchOneInto(Long.class), executor);
+    this.rows = CompletableFuture.supplyAsync(pageQuery::fetch, executor);
+
+    total.whenComplete((value, error) -> onError(error, rows, pageQuery));
+    rows.whenComplete((value, error) -> onError(error, total, countQuery));
+  }
+
+  /** Calls the consumer with the total number of elements once the count query succeeds */
+  void onTotal(final Consumer<Long> consumer) {
+    total.thenAccept(
+        value -> {
+          if (value != null) {
+            consumer.accept(value);
+          }
+        });
+  }
+
+  /** Waits for the count query */
+  Long getTotal() {
+    return join(total);
+  }
+
+  /** Waits for the page query */
+  Result<R> getRows() {
+    return join(rows);
+  }
+
+  /**
+   * Waits for both queries, so the error of the failed query is known when the other one has been
+   * cancelled because of it. The cancellation is reported only if neither query failed
+   */
+  private <T> T join(final CompletableFuture<T> future) {
+    try {
+      CompletableFuture.allOf(total, rows).handle((value, error) -> null).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel(total, countQuery);
+      cancel(rows, pageQuery);
+      throw new DataAccessException("Interrupted while waiting for the pagination queries", e);
+    } catch (ExecutionException e) {
+      throw new DataAccessException("Failed to execute the pagination query", e.getCause());
+    }
+
+    Throwable error = failure.get();
+    if (error == null) {
+      error = getError(total);
+    }
+    if (error == null) {
+      error = getError(rows);
+    }
+    if (error instanceof RuntimeException cause) {
+      throw cause;
+    }
+    if (error != null) {
+      throw new DataAccessException("Failed to execute the pagination query", error);
+    }
+    if (future.isCancelled()) {
+      throw new DataAccessException("Pagination query was cancelled");
+    }
+    return future.join();
+  }
+
+  /** Records the first error and cancels the other query */
+  private void onError(final Throwable error, final CompletableFuture<?> other, final Query query) {
+    if (error != null && !(error instanceof CancellationException)) {
+      failure.compareAndSet(null, error instanceof CompletionException ? error.getCause() : error);
+      cancel(other, query);
+    }
+  }
+
+  /** Returns the error of the future, or {@code null} if it succeeded or was cancelled */
+  private static Throwable getError(final CompletableFuture<?> future) {
+    if (!future.isCompletedExceptionally() || future.isCancelled()) {
+      return null;
+    }
+    return future.exceptionNow();
+  }
+
+  private static void cancel(final CompletableFuture<?> future, final Query query) {
+    if (future.isDone()) {
+      return;
+    }
+
+    future.cancel(true);
+    try {
+      query.cancel();
+    } catch (DataAccessException ignored) {
+      // The statement has already been closed, nothing to cancel
+    }
+  }
+}
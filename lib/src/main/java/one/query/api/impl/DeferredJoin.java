@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jooq.AggregateFunction;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.QOM;
+
+/**
+ * Rewrites the page query into the deferred join, see {@link
+ * one.query.api.OneQueryPaginationStep#deferJoin()}.
+ *
+ * <p>The query {@code select * from t join j on ... where c order by s limit n offset m} is
+ * rewritten into {@code select * from t join j on ... where c and (t.id) in (select t.id from t
+ * join j on ... where c order by s limit n offset m) order by s}. The subquery reads only the key
+ * columns, so its redundant {@code left join} are removed by {@link JoinElimination}, and the outer
+ * query reads the full rows of {@code n} keys by the primary key index. The sort of the outer query
+ * returns the rows of the page in the order of the subquery.
+ *
+ * <p>The query is rewritten only if each row of it is a single row of the driving table, so the
+ * {@code n} keys select exactly {@code n} rows. A join of a child table, for example, {@code orders
+ * join order_details}, returns several rows for a key, then the query is executed as is.
+ *
+ * @version 0.1.0
+ */
+final class DeferredJoin {
+  private DeferredJoin() {}
+
+  /**
+   * Returns a copy of the page query that reads the rows by the keys of the page, or the query
+   * itself if it cannot be rewritten
+   */
+  static <R extends Record> Select<R> rewrite(final Select<R> query) {
+    if (!isDeferrable(query)) {
+      return query;
+    }
+
+    List<Field<?>> keyFields = getKeyFields(getDrivingTable(query.$from().getFirst()));
+    if (keyFields.isEmpty()) {
+      return query;
+    }
+
+    Select<?> keys = JoinElimination.eliminate(query.$select(keyFields));
+    Condition condition = DSL.row(keyFields).in(keys);
+    // The offset is removed before the limit, jOOQ keeps the offset if the limit is removed first
+    return query
+        .$where(query.$where() == null ? condition : query.$where().and(condition))
+        .$offset(null)
+        .$limit(null);
+  }
+
+  /**
+   * Returns the driving table, the first table of the join chain, or {@code null} if a row of the
+   * query is not a single row of the driving table. Each table must be joined by {@code join} or
+   * {@code left join} whose {@code on} condition compares a primary or unique key of the joined
+   * table with the left side, see {@link JoinElimination#isUnique(QOM.JoinTable)}, other joins can
+   * nullify the driving table or multiply its rows, for example, a {@code join} of the child table
+   */
+  static Table<?> getDrivingTable(final Table<?> from) {
+    Table<?> table = from;
+    while (table instanceof QOM.JoinTable<?, ?> join) {
+      if (!JoinElimination.isUnique(join)) {
+        return null;
+      }
+      table = join.$table1();
+    }
+    return table;
+  }
+
+  /**
+   * Returns the fields of the primary key of the table qualified by the table, empty if the table
+   * has no primary key
+   */
+  static List<Field<?>> getKeyFields(final Table<?> table) {
+    UniqueKey<?> key = table == null ? null : table.getPrimaryKey();
+    if (key == null) {
+      return List.of();
+    }
+
+    List<Field<?>> fields = new ArrayList<>();
+    for (TableField<?, ?> keyField : key.getFields()) {
+      Field<?> field = table.field(keyField);
+      if (field == null) {
+        return List.of();
+      }
+      fields.add(field);
+    }
+    return fields;
+  }
+
+  /* ---------- private methods ------------------------------------------------------------------------------------- */
+
+  /**
+   * Checks that the query has {@code limit} and each of its rows is a row of the driving table, so
+   * the keys of the page select the same rows
+   */
+  private static boolean isDeferrable(final Select<?> query) {
+    return query.$limit() != null
+        && query.$from().size() == 1
+        && !query.$distinct()
+        && query.$distinctOn().isEmpty()
+        && query.$groupBy().isEmpty()
+        && query.$having() == null
+        && query.$qualify() == null
+        && query.$select().stream().noneMatch(DeferredJoin::isAggregateOrWindow);
+  }
+
+  private static boolean isAggregateOrWindow(final SelectFieldOrAsterisk field) {
+    return QueryParts.containsAny(
+        field, part -> part instanceof AggregateFunction || part instanceof QOM.WindowFunction);
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import one.query.api.model.Filter;
+import one.query.api.model.Prefix;
+import org.jooq.Field;
+
+/**
+ * Merges the filters of the same field passed to a single {@code .filter()} call before the
+ * conditions are created.
+ *
+ * <p>The lists of values are deduplicated, the lists of {@link Prefix#EQ} are intersected, the
+ * values of {@link Prefix#NE} and the values outside the ranges of {@link Prefix#BW} are removed
+ * from them, the ranges of {@link Prefix#BW} are intersected and the overlapping ranges are
+ * coalesced, the ranges where {@code from > to} are dropped. If a combination of the filters cannot
+ * match any row, for example {@code EQ [5]} and {@code NE [5]}, the filters are unsatisfiable and
+ * the query is not executed.
+ *
+ * <p>Only the fields of the integral, decimal, boolean and date time types are merged, since the
+ * values of these types are compared by Java in the same way as by the database. The values of the
+ * other types are only deduplicated, for example, strings are compared by the collation of the
+ * database, and {@code Float} and {@code Double} are compared by {@code compareTo}, where {@code
+ * -0.0} is less than {@code 0.0} and {@code NaN} is greater than any number, unlike SQL. The
+ * filters that would fail the validation of {@link OneQuery} are passed as is.
+ *
+ * @version 0.1.0
+ */
+final class FilterNormalizer {
+  /** The types whose values are compared by {@code compareTo} as by the database */
+  private static final Set<Class<?>> ORDERED_TYPES =
+      Set.of(
+          Byte.class,
+          Short.class,
+          Integer.class,
+          Long.class,
+          BigInteger.class,
+          BigDecimal.class,
+          Boolean.class,
+          LocalDate.class,
+          LocalTime.class,
+          LocalDateTime.class,
+          Instant.class,
+          Date.class,
+          Timestamp.class);
+
+  private FilterNormalizer() {}
+
+  /** Returns the merged filters in the order of the first filter of each field */
+  static Normalized normalize(final Collection<? extends Filter<?>> filters) {
+    Map<Field<?>, List<Filter<?>>> groups = new LinkedHashMap<>();
+    List<Filter<?>> result = new ArrayList<>();
+    for (Filter<?> filter : filters) {
+      if (!isValid(filter)) {
+        return new Normalized(List.copyOf(filters), false);
+      }
+      groups.computeIfAbsent(filter.field(), field -> new ArrayList<>()).add(filter);
+    }
+
+    for (List<Filter<?>> group : groups.values()) {
+      if (!isOrdered(group)) {
+        group.forEach(filter -> result.add(deduplicate(filter)));
+      } else if (!normalize(group, result)) {
+        return new Normalized(List.of(), true);
+      }
+    }
+    return new Normalized(result, false);
+  }
+
+  /* ---------- private methods ------------------------------------------------------------------------------------- */
+
+  /**
+   * Adds the merged filters of the field to the result, returns {@code false} if the filters are
+   * unsatisfiable. {@link Prefix#NE} and {@link Prefix#BW} are redundant if {@link Prefix#EQ} is
+   * present, since its values are already filtered by them, {@link Prefix#IS_NOT_NULL} is redundant
+   * if any comparison is present. {@link Prefix#NE} without values is always true and is dropped
+   */
+  private static boolean normalize(final List<Filter<?>> group, final List<Filter<?>> result) {
+    Field<?> field = group.getFirst().field();
+    Set<Object> equal = null;
+    Set<Object> notEqual = newValueSet();
+    List<Range> ranges = null;
+    boolean isNull = false;
+    boolean isNotNull = false;
+    List<Filter<?>> others = new ArrayList<>();
+
+    for (Filter<?> filter : group) {
+      switch (filter.prefix()) {
+        case EQ -> {
+          Set<Object> values = newValueSet();
+          values.addAll(filter.values());
+          if (equal == null) {
+            equal = values;
+          } else {
+            equal.retainAll(values);
+          }
+        }
+        case NE -> notEqual.addAll(filter.values());
+        case BW -> {
+          List<Range> filterRanges = getRanges(filter.values());
+          ranges = ranges == null ? filterRanges : intersect(ranges, filterRanges);
+        }
+        case IS_NULL -> isNull = true;
+        case IS_NOT_NULL -> isNotNull = true;
+        default -> others.add(deduplicate(filter));
+      }
+    }
+
+    if (isNull && (isNotNull || equal != null || ranges != null || !notEqual.isEmpty())) {
+      return false;
+    }
+
+    if (equal != null) {
+      equal.removeAll(notEqual);
+      if (ranges != null) {
+        List<Range> finalRanges = ranges;
+        equal.removeIf(value -> finalRanges.stream().noneMatch(range -> range.contains(value)));
+      }
+      if (equal.isEmpty()) {
+        return false;
+      }
+      result.add(copy(field, Prefix.EQ, equal));
+    } else {
+      if (ranges != null) {
+        if (ranges.isEmpty()) {
+          return false;
+        }
+        List<Object> values = new ArrayList<>();
+        ranges.forEach(range -> values.addAll(List.of(range.from(), range.to())));
+        result.add(copy(field, Prefix.BW, values));
+      }
+      if (!notEqual.isEmpty()) {
+        result.add(copy(field, Prefix.NE, notEqual));
+      }
+      if (isNull) {
+        result.add(copy(field, Prefix.IS_NULL, List.of()));
+      }
+      if (isNotNull && ranges == null && notEqual.isEmpty()) {
+        result.add(copy(field, Prefix.IS_NOT_NULL, List.of()));
+      }
+    }
+
+    result.addAll(others);
+    return true;
+  }
+
+  /**
+   * Checks that the filter would pass the validation of {@link OneQuery}, the invalid filters are
+   * not merged, so the validation throws the same exception
+   */
+  private static boolean isValid(final Filter<?> filter) {
+    return filter != null
+        && filter.field() != null
+        && filter.prefix() != null
+        && filter.values() != null
+        && filter.values().stream().allMatch(Objects::nonNull)
+        && (filter.prefix() != Prefix.BW
+            || (!filter.values().isEmpty() && filter.values().size() % 2 == 0));
+  }
+
+  /** Checks that the field is of an ordered type and all the values are of the type of the field */
+  private static boolean isOrdered(final List<Filter<?>> group) {
+    Class<?> type = group.getFirst().field().getType();
+    return ORDERED_TYPES.contains(type)
+        && group.stream().flatMap(filter -> filter.values().stream()).allMatch(type::isInstance);
+  }
+
+  /** Removes the equal values of the filter, the pairs of {@link Prefix#BW} are kept as is */
+  private static Filter<?> deduplicate(final Filter<?> filter) {
+    if (filter.prefix() == Prefix.BW) {
+      return filter;
+    }
+    return copy(filter.field(), filter.prefix(), new LinkedHashSet<>(filter.values()));
+  }
+
+  /** The values are compared by {@code compareTo}, so {@code 1.0} and {@code 1.00} are equal */
+  private static Set<Object> newValueSet() {
+    return new TreeSet<>(FilterNormalizer::compare);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compare(final Object left, final Object right) {
+    return ((Comparable) left).compareTo(right);
+  }
+
+  /** Returns the valid ranges of {@link Prefix#BW}, sorted and coalesced */
+  private static List<Range> getRanges(final Collection<?> values) {
+    List<?> list = List.copyOf(values);
+    List<Range> ranges = new ArrayList<>();
+    for (int i = 0; i < list.size(); i += 2) {
+      if (compare(list.get(i), list.get(i + 1)) <= 0) {
+        ranges.add(new Range(list.get(i), list.get(i + 1)));
+      }
+    }
+    return coalesce(ranges);
+  }
+
+  private static List<Range> coalesce(final List<Range> ranges) {
+    List<Range> sorted = new ArrayList<>(ranges);
+    sorted.sort(Comparator.comparing(Range::from, FilterNormalizer::compare));
+
+    List<Range> result = new ArrayList<>();
+    for (Range range : sorted) {
+      Range last = result.isEmpty() ? null : result.getLast();
+      if (last != null && compare(range.from(), last.to()) <= 0) {
+        result.set(result.size() - 1, new Range(last.from(), max(last.to(), range.to())));
+      } else {
+        result.add(range);
+      }
+    }
+    return result;
+  }
+
+  /** The filters are joined by {@code and}, so the ranges of both filters are intersected */
+  private static List<Range> intersect(final List<Range> left, final List<Range> right) {
+    List<Range> result = new ArrayList<>();
+    for (Range a : left) {
+      for (Range b : right) {
+        Object from = max(a.from(), b.from());
+        Object to = compare(a.to(), b.to()) <= 0 ? a.to() : b.to();
+        if (compare(from, to) <= 0) {
+          result.add(new Range(from, to));
+        }
+      }
+    }
+    return coalesce(result);
+  }
+
+  private static Object max(final Object left, final Object right) {
+    return compare(left, right) >= 0 ? left : right;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Filter<T> copy(
+      final Field<T> field, final Prefix prefix, final Collection<?> values) {
+    return new Filter<>(field, prefix, (Collection<T>) List.copyOf(values));
+  }
+
+  /**
+   * The result of {@link #normalize(Collection)}
+   *
+   * @param unsatisfiable the filters cannot match any row
+   */
+  record Normalized(List<Filter<?>> filters, boolean unsatisfiable) {}
+
+  /** The inclusive range of {@link Prefix#BW} */
+  private record Range(Object from, Object to) {
+    boolean contains(final Object value) {
+      return compare(from, value) <= 0 && compare(value, to) <= 0;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.jooq.Asterisk;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.QualifiedAsterisk;
+import org.jooq.QueryPart;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.QOM;
+
+/**
+ * Removes the {@code left join} that cannot change the number of rows of the count query.
+ *
+ * <p>A {@code left join} keeps every row of the left side, so it can only multiply the rows if a
+ * row of the left side matches several rows of the joined table. If the {@code on} condition
+ * compares all the fields of a primary or unique key of the joined table with the left side, at
+ * most one row matches, and if the joined table is not referenced anywhere else in the query, the
+ * join can be removed without changing the number of rows. The keys are taken from the generated
+ * jOOQ tables, so derived tables and plain SQL tables are never removed.
+ *
+ * <p>Only the chain of {@code left join} at the top of each table of {@code from} is checked, the
+ * joins below the first join of another type are kept as is.
+ *
+ * @version 0.1.0
+ */
+final class JoinElimination {
+  private JoinElimination() {}
+
+  /**
+   * Returns a copy of the query without the redundant {@code left join}. Removing a join can make
+   * another one redundant, so the query is checked again until nothing is removed. The query that
+   * selects {@code *} references all the joined tables
+   */
+  static Select<?> eliminate(final Select<?> query) {
+    if (query.$select().isEmpty()
+        || query.$select().stream()
+            .anyMatch(field -> field instanceof Asterisk || field instanceof QualifiedAsterisk)) {
+      return query;
+    }
+
+    Select<?> result = query;
+    while (true) {
+      Set<QOM.LeftJoin<?>> redundant = newJoinSet();
+      for (QOM.LeftJoin<?> join : getLeftJoins(result)) {
+        Set<QOM.LeftJoin<?>> removed = newJoinSet();
+        removed.add(join);
+        if (isUnique(join) && !references(without(result, removed), join.$table2())) {
+          redundant.add(join);
+        }
+      }
+      if (redundant.isEmpty()) {
+        return result;
+      }
+      result = without(result, redundant);
+    }
+  }
+
+  /**
+   * Checks that the {@code join} or {@code left join} matches at most one row of the joined table
+   * for each row of the left side, so it cannot multiply the rows of the left side
+   *
+   * @see #isUnique(Table, Condition, List)
+   */
+  static boolean isUnique(final QOM.JoinTable<?, ?> join) {
+    return switch (join) {
+      case QOM.Join<?> inner -> isUnique(inner.$table2(), inner.$on(), inner.$using());
+      case QOM.LeftJoin<?> left -> isUnique(left.$table2(), left.$on(), left.$using());
+      default -> false;
+    };
+  }
+
+  /* ---------- private methods ------------------------------------------------------------------------------------- */
+
+  /** The joins are compared by identity, since the same join can be rendered twice */
+  private static Set<QOM.LeftJoin<?>> newJoinSet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  /** Returns the {@code left join} chain at the top of each table of {@code from} */
+  private static List<QOM.LeftJoin<?>> getLeftJoins(final Select<?> query) {
+    List<QOM.LeftJoin<?>> joins = new ArrayList<>();
+    for (Table<?> table : query.$from()) {
+      while (table instanceof QOM.LeftJoin<?> join) {
+        joins.add(join);
+        table = join.$table1();
+      }
+    }
+    return joins;
+  }
+
+  /** Returns a copy of the query with the passed joins replaced by their left side */
+  private static Select<?> without(final Select<?> query, final Set<QOM.LeftJoin<?>> joins) {
+    List<Table<?>> from = new ArrayList<>();
+    for (Table<?> table : query.$from()) {
+      from.add(without(table, joins));
+    }
+    return query.$from(from);
+  }
+
+  private static Table<?> without(final Table<?> table, final Set<QOM.LeftJoin<?>> joins) {
+    if (!(table instanceof QOM.LeftJoin<?> join)) {
+      return table;
+    }
+
+    Table<?> left = without(join.$table1(), joins);
+    if (joins.contains(join)) {
+      return left;
+    }
+    return left == join.$table1() ? join : left.leftJoin(join.$table2()).on(join.$on());
+  }
+
+  /**
+   * Checks that the {@code on} condition compares all the fields of a primary or unique key of the
+   * joined table with the fields of the left side. Other predicates of the {@code on} condition can
+   * only reduce the number of matched rows, so they are ignored
+   */
+  private static boolean isUnique(
+      final Table<?> joined, final Condition on, final List<? extends Field<?>> using) {
+    if (!using.isEmpty() || on == null) {
+      return false;
+    }
+
+    // The on condition is wrapped by jOOQ, combining it with noCondition() returns the condition
+    Set<String> equalFields = new HashSet<>();
+    collectEqualFields(on.and(DSL.noCondition()), joined, equalFields);
+
+    List<UniqueKey<?>> keys = new ArrayList<>();
+    if (joined.getPrimaryKey() != null) {
+      keys.add(joined.getPrimaryKey());
+    }
+    keys.addAll(joined.getUniqueKeys());
+    return keys.stream()
+        .anyMatch(key -> key.getFields().stream().allMatch(f -> equalFields.contains(f.getName())));
+  }
+
+  /** Collects the fields of the joined table compared by {@code =} in the {@code and} chain */
+  private static void collectEqualFields(
+      final Condition condition, final Table<?> joined, final Set<String> equalFields) {
+    if (condition instanceof QOM.And and) {
+      collectEqualFields(and.$arg1(), joined, equalFields);
+      collectEqualFields(and.$arg2(), joined, equalFields);
+    } else if (condition instanceof QOM.Eq<?> eq) {
+      collectEqualField(eq.$arg1(), eq.$arg2(), joined, equalFields);
+      collectEqualField(eq.$arg2(), eq.$arg1(), joined, equalFields);
+    }
+  }
+
+  private static void collectEqualField(
+      final Field<?> field,
+      final Field<?> other,
+      final Table<?> joined,
+      final Set<String> equalFields) {
+    if (field instanceof TableField<?, ?> tableField
+        && joined.equals(tableField.getTable())
+        && !references(other, joined)) {
+      equalFields.add(field.getName());
+    }
+  }
+
+  /** Checks whether any clause of the query contains a field of the table */
+  private static boolean references(final Select<?> query, final Table<?> table) {
+    List<QueryPart> parts = new ArrayList<>();
+    parts.addAll(query.$select());
+    parts.addAll(query.$from());
+    parts.addAll(query.$groupBy());
+    parts.addAll(query.$orderBy());
+    Stream.of(query.$where(), query.$having(), query.$qualify())
+        .filter(Objects::nonNull)
+        .forEach(parts::add);
+    return parts.stream().anyMatch(part -> references(part, table));
+  }
+
+  /** Checks whether the query part contains a field of the table */
+  private static boolean references(final QueryPart part, final Table<?> table) {
+    return QueryParts.containsAny(
+        part, p -> p instanceof TableField<?, ?> field && table.equals(field.getTable()));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import org.jooq.SortField;
+
+/**
+ * Opaque cursor of the keyset pagination. Stores the number of the page the cursor points to, the
+ * direction of the seek and the sort key values of the boundary row. Values are stored as strings
+ * and converted back with the data type of the sort field when the cursor is decoded.
+ *
+ * @version 0.1.0
+ */
+record KeysetCursor(long number, boolean backward, List<?> values) {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /** Cursor of the first page */
+  static KeysetCursor first() {
+    return new KeysetCursor(0, false, List.of());
+  }
+
+  /** Encodes the cursor into a URL safe string */
+  String encode() {
+    List<String> raw = values.stream().map(value -> Objects.toString(value, null)).toList();
+    try {
+      byte[] json = OBJECT_MAPPER.writeValueAsBytes(new Raw(number, backward, raw));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode cursor", e);
+    }
+  }
+
+  /**
+   * Decodes the cursor, values are converted to the types of the passed sort fields. Throws {@link
+   * IllegalArgumentException} if the cursor is damaged or was created with a different sort.
+   */
+  static KeysetCursor decode(final String cursor, final List<? extends SortField<?>> sortFields) {
+    Raw raw;
+    try {
+      byte[] json = Base64.getUrlDecoder().decode(cursor);
+      raw = OBJECT_MAPPER.readValue(new String(json, StandardCharsets.UTF_8), Raw.class);
+    } catch (IllegalArgumentException | JsonProcessingException e) {
+      throw new IllegalArgumentException("Invalid cursor: [%s]".formatted(cursor), e);
+    }
+
+    if (raw.values().size() != sortFields.size()) {
+      throw new IllegalArgumentException(
+          "Cursor does not match the sort fields. Values size: [%s], sort fields size: [%s]"
+              .formatted(raw.values().size(), sortFields.size()));
+    }
+
+    List<Object> values = new ArrayList<>(sortFields.size());
+    for (int i = 0; i < sortFields.size(); i++) {
+      values.add(sortFields.get(i).$field().getDataType().convert(raw.values().get(i)));
+    }
+    return new KeysetCursor(raw.number(), raw.backward(), values);
+  }
+
+  /** Serialized form of the cursor */
+  record Raw(long number, boolean backward, List<String> values) {}
+}
@@ -15,9 +15,12 @@
  */
 package one.query.api.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
 import one.query.api.OneQueryCollectStep;
 import one.query.api.OneQueryCommonTableStep;
 import one.query.api.OneQueryFetchStep;
@@ -28,12 +31,24 @@ import one.query.api.OneQueryOnStep;
 import one.query.api.OneQueryOptionalPaginationStep;
 import one.query.api.OneQueryPaginationResultStep;
 import one.query.api.OneQueryPaginationStep;
+import one.query.api.OneQuerySeekStep;
+import one.query.api.OneQuerySliceResultStep;
+import one.query.api.OneQuerySliceStep;
 import one.query.api.OneQuerySortStep;
+import one.query.api.configuration.CountCache;
+import one.query.api.configuration.OneQueryConfiguration;
+import one.query.api.configuration.PageBoundaryCache;
+import one.query.api.mapper.Conditions;
+import one.query.api.mapper.KeyOptions;
+import one.query.api.mapper.OneQueryMapper;
+import one.query.api.model.Count;
 import one.query.api.model.Filter;
 import one.query.api.model.Page;
 import one.query.api.model.PaginationResult;
 import one.query.api.model.Prefix;
+import one.query.api.model.Slice;
 import one.query.api.model.Sort;
+import one.query.api.model.TotalType;
 import org.apache.commons.lang3.NotImplementedException;
 import org.jooq.AggregateFunction;
 import org.jooq.CommonTableExpression;
@@ -41,9 +56,13 @@ import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.OrderField;
+import org.jooq.QueryPart;
 import org.jooq.Record;
+import org.jooq.Record1;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
 import org.jooq.SelectConnectByStep;
 import org.jooq.SelectFinalStep;
 import org.jooq.SelectFromStep;
@@ -52,10 +71,14 @@ import org.jooq.SelectOnStep;
 import org.jooq.SelectOptionalOnStep;
 import org.jooq.SelectQuery;
 import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.TableLike;
+import org.jooq.TableRecord;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConnectionProvider;
 
 /**
  * A class that provides configuration on top of JOOQ to help filter, sort and paginate, the main
@@ -82,12 +105,20 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
         OneQuerySortStep<R>,
         OneQueryOptionalPaginationStep<R>,
         OneQueryPaginationStep<R>,
+        OneQuerySeekStep<R>,
+        OneQuerySliceStep<R>,
+        OneQuerySliceResultStep<R>,
         OneQueryCollectStep<R>,
         OneQueryFetchStep<R>,
         OneQueryFieldsStep<R>,
         OneQueryCommonTableStep<R>,
         OneQueryPaginationResultStep<R> {
 
+  /* ---------- constants ------------------------------------------------------------------------------------------- */
+
+  /** The {@code count(*) over()} column added to the page query by {@link Count#window()} */
+  private static final Field<Integer> WINDOW_TOTAL = DSL.count().over().as("one_query_total");
+
   /* ---------- variables ------------------------------------------------------------------------------------------- */
 
   /**
@@ -108,12 +139,85 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
    */
   private Long total;
 
+  /** Shows whether {@link #total} is exact or approximate, see {@link TotalType} */
+  private TotalType totalType = TotalType.EXACT;
+
   /**
    * A field that contains the variable names for the CTE if called {@link
    * OneQueryFieldsStep#fields(String...)}
    */
   private String[] fields;
 
+  /**
+   * The sort fields of the keyset pagination if called {@link OneQuerySeekStep#seek}. Required to
+   * create the cursors of the {@link PaginationResult} object
+   */
+  private List<? extends SortField<?>> seekFields;
+
+  /** A flag that the keyset pagination reads the rows before the cursor in the reverse order */
+  private boolean seekBackward;
+
+  /**
+   * A flag that the page query reads one extra row to find out whether the next page exists if
+   * called {@link OneQuerySliceStep#slice(Page)}
+   */
+  private boolean slice;
+
+  /** A flag that the extra row of {@link #slice} has been read and removed from the page */
+  private boolean hasNext;
+
+  /**
+   * A flag that the filters cannot match any row, see {@link FilterNormalizer}. The pagination and
+   * the terminal methods return an empty result without executing the queries
+   */
+  private boolean unsatisfiable;
+
+  /**
+   * A flag that the page query is rewritten into the deferred join if called {@link
+   * OneQueryPaginationStep#deferJoin()}, see {@link DeferredJoin}
+   */
+  private boolean deferJoin;
+
+  /**
+   * A flag that the query is filtered by {@code .filter()} or {@code .filterBy()}, required by
+   * {@link one.query.api.mapper.SortPolicy#WITH_FILTER}
+   */
+  private boolean filtered;
+
+  /**
+   * Whether an index of the driving table matches the sort if called {@link
+   * OneQueryPaginationStep#stableSort()}, see {@link StableSort}
+   */
+  private Boolean sortIndexed;
+
+  /**
+   * The sorted query without {@code limit} whose page boundaries are cached by {@link
+   * PageBoundaryCache}, {@code null} if the boundaries of the page are not cached
+   */
+  private Select<R> boundaryQuery;
+
+  /**
+   * The query executed by the terminal methods if the pagination had to rewrite the delegate into a
+   * new {@link Select}, for example, with the reversed sort. If {@code null}, the delegate is
+   * executed
+   */
+  private Select<R> pageQuery;
+
+  /**
+   * The page query with the {@code count(*) over()} column if called {@link
+   * OneQueryPaginationStep#paginate(Page, Count)} with {@link Count#window()}
+   */
+  private Select<?> windowQuery;
+
+  /** The rows of the window page query, fetched once and reused by the terminal methods */
+  private Result<R> windowResult;
+
+  /**
+   * The count query and the page query started in parallel if called {@link
+   * OneQueryPaginationStep#paginate(Page, Count)} with {@link Count#concurrent()}
+   */
+  private ConcurrentPage<R> concurrentPage;
+
   /* ---------- constructors ---------------------------------------------------------------------------------------- */
 
   /**
@@ -285,65 +389,36 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
 
   @Override
   public <T> OneQuerySortStep<R> filter(final Filter<T> filter) {
-    SelectQuery<R> delegate = getDelegate();
-    Condition condition = getCondition(filter);
-
-    if (filter.field() instanceof AggregateFunction) {
-      delegate.addHaving(condition);
-    } else {
-      delegate.addConditions(condition);
-    }
-
-    return this;
+    return addFilters(Collections.singletonList(filter));
   }
 
   @Override
   public OneQuerySortStep<R> filter(final Filter<?>... filters) {
-    List.of(filters)
-        .forEach(
-            filter -> {
-              SelectQuery<R> delegate = getDelegate();
-              Condition condition = getCondition(filter);
-
-              if (filter.field() instanceof AggregateFunction) {
-                delegate.addHaving(condition);
-              } else {
-                delegate.addConditions(condition);
-              }
-            });
-    return this;
+    return addFilters(Arrays.asList(filters));
   }
 
   @Override
   public OneQuerySortStep<R> filter(final Collection<Filter<?>> filters) {
-    filters.forEach(
-        filter -> {
-          SelectQuery<R> delegate = getDelegate();
-          Condition condition = getCondition(filter);
-
-          if (filter.field() instanceof AggregateFunction) {
-            delegate.addHaving(condition);
-          } else {
-            delegate.addConditions(condition);
-          }
-        });
-    return this;
+    return addFilters(filters);
   }
 
   @Override
   public OneQuerySortStep<R> filterBy(final Condition condition) {
+    filtered = true;
     getDelegate().addConditions(condition);
     return this;
   }
 
   @Override
   public OneQuerySortStep<R> filterBy(final Condition... conditions) {
+    filtered |= conditions.length > 0;
     getDelegate().addConditions(conditions);
     return this;
   }
 
   @Override
   public OneQuerySortStep<R> filterBy(final Collection<? extends Condition> conditions) {
+    filtered |= !conditions.isEmpty();
     getDelegate().addConditions(conditions);
     return this;
   }
@@ -391,28 +466,130 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
 
   @Override
   public OneQueryPaginationResultStep<R> paginate(final Page page) {
+    return paginate(page, Count.exact());
+  }
+
+  @Override
+  public OneQueryPaginationResultStep<R> paginate(final int page, final int size) {
+    return paginate(new Page(page, size), Count.exact());
+  }
+
+  @Override
+  public OneQueryPaginationResultStep<R> paginate(final Page page, final Count count) {
     this.currentPage = page;
-    DSLContext ctx = DSL.using(getDelegate().configuration());
-    total = ctx.selectCount().from(getDelegate()).fetchOneInto(Long.class);
+    if (unsatisfiable) {
+      total = 0L;
+      limit(page.offset(), page.size());
+      return this;
+    }
 
-    limit(currentPage.offset(), currentPage.size());
+    switch (count) {
+      case Count.Exact exact -> paginateExact();
+      case Count.Window window -> paginateWindow();
+      case Count.Concurrent concurrent -> paginateConcurrent(concurrent);
+      case Count.Estimated estimated -> paginateEstimated();
+      case Count.Capped capped -> paginateCapped(capped);
+      case Count.TimeBoxed timeBoxed -> paginateTimeBoxed(timeBoxed);
+    }
     return this;
   }
 
   @Override
-  public OneQueryPaginationResultStep<R> paginate(final int page, final int size) {
-    this.currentPage = new Page(page, size);
-    DSLContext ctx = DSL.using(getDelegate().configuration());
-    total = ctx.selectCount().from(getDelegate()).fetchOneInto(Long.class);
-
-    limit(currentPage.offset(), currentPage.size());
+  public OneQueryOptionalPaginationStep<R> deferJoin() {
+    this.deferJoin = true;
+    return this;
+  }
 
+  @Override
+  public OneQueryOptionalPaginationStep<R> stableSort() {
+    SelectQuery<R> delegate = getDelegate();
+    delegate.addOrderBy(StableSort.getTieBreaker(delegate));
+    this.sortIndexed = StableSort.isIndexed(delegate);
     return this;
   }
 
+  @Override
+  public Optional<Long> pageOf(final int size, final Object... key) {
+    Page page = new Page(0, size);
+    SelectQuery<R> delegate = getDelegate();
+    List<? extends SortField<?>> sortFields = List.copyOf(delegate.$orderBy());
+    if (sortFields.isEmpty()) {
+      throw new IllegalStateException("Page lookup requires at least one sort field");
+    }
+
+    Table<?> drivingTable = StableSort.getDrivingTable(delegate);
+    if (drivingTable == null) {
+      throw new IllegalArgumentException(
+          "Page lookup requires each row of the query to be a single row of the driving table,"
+              + " without distinct, group by and joins that can multiply its rows");
+    }
+
+    List<Field<?>> keyFields = DeferredJoin.getKeyFields(drivingTable);
+    if (keyFields.isEmpty()) {
+      throw new IllegalStateException("Page lookup requires the primary key of the driving table");
+    }
+    if (key.length != keyFields.size()) {
+      throw new IllegalArgumentException(
+          "Key values must match the primary key fields. Values size: [%s], key fields size: [%s]"
+              .formatted(key.length, keyFields.size()));
+    }
+    if (unsatisfiable) {
+      return Optional.empty();
+    }
+
+    ResultQuery<Record1<Integer>> positionQuery =
+        StableSort.isSeekable(delegate)
+            ? getPrecedingCountQuery(sortFields, keyFields, key)
+            : getRowNumberQuery(sortFields, keyFields, key);
+    return positionQuery.fetchOptional(Record1::value1).map(position -> position / page.size());
+  }
+
   @Override
   public Long getTotal() {
-    return total;
+    if (windowQuery != null) {
+      fetchWindowPage();
+    }
+    if (concurrentPage != null) {
+      total = concurrentPage.getTotal();
+    }
+    return totalType == TotalType.UNKNOWN ? Long.valueOf(-1) : total;
+  }
+
+  /* ---------- .slice() -------------------------------------------------------------------------------------------- */
+
+  @Override
+  public OneQuerySliceResultStep<R> slice(final Page page) {
+    this.currentPage = page;
+    this.slice = true;
+    limit(page.offset(), page.size() + 1L);
+    return this;
+  }
+
+  @Override
+  public OneQuerySliceResultStep<R> slice(final int page, final int size) {
+    return slice(new Page(page, size));
+  }
+
+  /* ---------- .seek() --------------------------------------------------------------------------------------------- */
+
+  @Override
+  public OneQueryPaginationResultStep<R> seek(final String cursor, final int size) {
+    List<? extends SortField<?>> sortFields = getSeekFields();
+    KeysetCursor keyset =
+        cursor == null ? KeysetCursor.first() : KeysetCursor.decode(cursor, sortFields);
+    return seek(sortFields, keyset, size);
+  }
+
+  @Override
+  public OneQueryPaginationResultStep<R> seek(final Page page, final Object... lastSeen) {
+    List<? extends SortField<?>> sortFields = getSeekFields();
+    if (lastSeen.length != 0 && lastSeen.length != sortFields.size()) {
+      throw new IllegalArgumentException(
+          "Last seen values must match the sort fields. Values size: [%s], sort fields size: [%s]"
+              .formatted(lastSeen.length, sortFields.size()));
+    }
+    KeysetCursor keyset = new KeysetCursor(page.number(), false, Arrays.asList(lastSeen));
+    return seek(sortFields, keyset, page.size());
   }
 
   /* ---------- .fields() ------------------------------------------------------------------------------------------- */
@@ -423,44 +600,64 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
     return this;
   }
 
+  @Override
+  public Boolean isSortIndexed() {
+    return sortIndexed;
+  }
+
   /* ---------- .toPaginationResult() ------------------------------------------------------------------------------- */
 
   @Override
   public <C> PaginationResult<C> toPaginationResult(final Class<C> clazz) {
-    List<C> result = getDelegate().fetchInto(clazz);
-    return new PaginationResult<>(result, currentPage.number(), total);
+    Result<R> result = fetchPage();
+    return toPaginationResult(result, result.into(clazz));
   }
 
   @Override
   public <C> PaginationResult<C> toPaginationResult(final RecordMapper<R, C> mapper) {
-    List<C> result = getDelegate().fetch(mapper);
-    return new PaginationResult<>(result, currentPage.number(), total);
+    Result<R> result = fetchPage();
+    return toPaginationResult(result, result.map(mapper));
+  }
+
+  /* ---------- .toSliceResult() ------------------------------------------------------------------------------------ */
+
+  @Override
+  public <C> Slice<C> toSliceResult(final Class<C> clazz) {
+    Result<R> result = fetchPage();
+    return new Slice<>(result.into(clazz), currentPage.number(), hasNext);
+  }
+
+  @Override
+  public <C> Slice<C> toSliceResult(final RecordMapper<R, C> mapper) {
+    Result<R> result = fetchPage();
+    return new Slice<>(result.map(mapper), currentPage.number(), hasNext);
   }
 
   /* ---------- .toList() ------------------------------------------------------------------------------------------- */
 
   @Override
   public <C> List<C> toList(final Class<C> clazz) {
-    return getDelegate().fetchInto(clazz);
+    return fetchPage().into(clazz);
   }
 
   @Override
   public <C> List<C> toList(final RecordMapper<R, C> mapper) {
-    return getDelegate().fetch(mapper);
+    return fetchPage().map(mapper);
   }
 
   /* ---------- .fetch() -------------------------------------------------------------------------------------------- */
 
   @Override
   public Result<R> fetch() throws DataAccessException {
-    return getDelegate().fetch();
+    return fetchPage();
   }
 
   /* ---------- .toCommonTable() ------------------------------------------------------------------------------------ */
 
   @Override
   public CommonTableExpression<R> toCommonTable(final String name) {
-    return DSL.name(name).fields(fields).as(getDelegate());
+    Select<R> query = slice ? getPageQuery().$limit(DSL.val(currentPage.size())) : getPageQuery();
+    return DSL.name(name).fields(fields).as(query);
   }
 
   /* ---------- private methods ------------------------------------------------------------------------------------- */
@@ -470,8 +667,581 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
     getDelegate().addLimit(offset, size);
   }
 
+  /** Returns the mapper registered for the dialect of the query */
+  private Optional<OneQueryMapper> findMapper() {
+    return OneQueryConfiguration.findMapper(getDelegate().configuration().dialect());
+  }
+
+  /** Method that counts the total number of elements of the query without {@code limit} */
+  private Long countTotal() {
+    return fetchCount(getCountQuery());
+  }
+
+  /** Executes the count query, if the {@link CountCache} is registered, the total is cached */
+  private Long fetchCount(final ResultQuery<Record1<Integer>> countQuery) {
+    return OneQueryConfiguration.findCountCache()
+        .map(cache -> cache.get(countQuery, () -> countQuery.fetchOneInto(Long.class)))
+        .orElseGet(() -> countQuery.fetchOneInto(Long.class));
+  }
+
+  /** Returns the query that counts the total number of elements of the query */
+  private ResultQuery<Record1<Integer>> getCountQuery() {
+    DSLContext ctx = DSL.using(getDelegate().configuration());
+    return ctx.selectCount().from(getCountSource());
+  }
+
+  /**
+   * Returns a copy of the delegate that has the same number of rows but is cheaper to execute. The
+   * {@code order by} is removed if the query has no {@code limit} and {@code offset}, since the
+   * order cannot change the number of rows then. The select list is replaced by a constant, unless
+   * the rows are made unique by {@code distinct} or the select list contains an aggregate function
+   * without {@code group by}, which turns all the rows into a single one. The redundant {@code left
+   * join} are removed by {@link JoinElimination}
+   */
+  private Select<?> getCountSource() {
+    Select<R> source = getDelegate();
+    if (source.$limit() == null && source.$offset() == null && !source.$orderBy().isEmpty()) {
+      source = source.$orderBy(Collections.emptyList());
+    }
+
+    if (source.$distinct() || !source.$distinctOn().isEmpty() || isAggregate(source)) {
+      return JoinElimination.eliminate(source);
+    }
+    return JoinElimination.eliminate(source.$select(List.of(DSL.inline(1))));
+  }
+
+  /**
+   * Checks whether the select list contains an aggregate function without {@code group by}, which
+   * turns all the rows into a single one
+   */
+  private static boolean isAggregate(final Select<?> query) {
+    return query.$groupBy().isEmpty() && query.$select().stream().anyMatch(OneQuery::hasAggregate);
+  }
+
+  /** Checks whether the query part is or contains an aggregate function */
+  private static boolean hasAggregate(final QueryPart part) {
+    return QueryParts.containsAny(part, AggregateFunction.class::isInstance);
+  }
+
+  /**
+   * Returns the query executed by the terminal methods, rewritten into the deferred join if called
+   * {@link OneQueryPaginationStep#deferJoin()}
+   */
+  private Select<R> getPageQuery() {
+    Select<R> query = pageQuery != null ? pageQuery : getDelegate();
+    return deferJoin ? DeferredJoin.rewrite(query) : query;
+  }
+
+  /**
+   * Executes the query of the terminal methods. The rows of the backward keyset pagination are read
+   * in the reverse order, so they are reversed back to the order of the query. The extra row of the
+   * slice is removed
+   */
+  private Result<R> fetchPage() {
+    if (unsatisfiable) {
+      return newEmptyResult();
+    }
+    if (windowQuery != null) {
+      return fetchWindowPage();
+    }
+    if (concurrentPage != null) {
+      Result<R> result = concurrentPage.getRows();
+      total = concurrentPage.getTotal();
+      return result;
+    }
+
+    Result<R> result = getPageQuery().fetch();
+    if (boundaryQuery != null) {
+      putBoundary(result);
+    }
+    if (seekBackward) {
+      Collections.reverse(result);
+    }
+    if (slice) {
+      hasNext = result.size() > currentPage.size();
+      if (hasNext) {
+        result.removeLast();
+      }
+    }
+    return result;
+  }
+
+  /** Creates an empty result of the record type of the delegate */
+  @SuppressWarnings("unchecked")
+  private Result<R> newEmptyResult() {
+    DSLContext ctx = DSL.using(getDelegate().configuration());
+    if (TableRecord.class.isAssignableFrom(getDelegate().getRecordType())) {
+      return (Result<R>) (Result<?>) ctx.newResult(getDelegate().$from().getFirst());
+    }
+    Field<?>[] select = getDelegate().getSelect().toArray(new Field<?>[0]);
+    return (Result<R>) (Result<?>) ctx.newResult(select);
+  }
+
+  /** Creates a {@link PaginationResult}, adding the cursors if the keyset pagination was called */
+  private <C> PaginationResult<C> toPaginationResult(
+      final Result<R> result, final List<C> content) {
+    if (seekFields == null) {
+      return new PaginationResult<>(
+          content, currentPage.number(), getResultTotal(content), null, null, totalType);
+    }
+
+    long number = currentPage.number();
+    boolean hasNext = seekBackward ? !result.isEmpty() : result.size() == currentPage.size();
+    String nextCursor =
+        hasNext
+            ? new KeysetCursor(number + 1, false, getSeekValues(result.getLast())).encode()
+            : null;
+    String previousCursor =
+        number > 0 && !result.isEmpty()
+            ? new KeysetCursor(number - 1, true, getSeekValues(result.getFirst())).encode()
+            : null;
+    return new PaginationResult<>(content, number, total, nextCursor, previousCursor);
+  }
+
+  /* ---------- private methods paginate ---------------------------------------------------------------------------- */
+
+  /**
+   * Adds {@code limit} and {@code offset} of the current page. If the {@link PageBoundaryCache} is
+   * registered and the sort is unique by not null fields of the driving table, the page is read by
+   * the seek from the nearest cached boundary before it and {@code offset} skips only the rows
+   * after the boundary. The total number of elements must be counted before, since the seek
+   * condition is added to the delegate
+   */
+  private void limitPage() {
+    Optional<PageBoundaryCache> cache = OneQueryConfiguration.findPageBoundaryCache();
+    if (cache.isEmpty() || !StableSort.isSeekable(getDelegate())) {
+      limit(currentPage.offset(), currentPage.size());
+      return;
+    }
+
+    long offset = currentPage.offset();
+    // $limit(null) returns the delegate itself if it has no limit, $orderBy() always copies it
+    boundaryQuery = getDelegate().$orderBy(getDelegate().$orderBy()).$limit(null);
+    Optional<PageBoundaryCache.Boundary> boundary =
+        offset == 0 ? Optional.empty() : cache.get().floor(boundaryQuery, offset);
+    if (boundary.isPresent()) {
+      List<? extends SortField<?>> sortFields = List.copyOf(getDelegate().$orderBy());
+      getDelegate().addConditions(getSeekCondition(sortFields, boundary.get().values(), false));
+      offset -= boundary.get().position();
+    }
+    limit(offset, currentPage.size());
+  }
+
+  /**
+   * Caches the sort values of the last row of the page as the boundary of the next rows, the
+   * position of the boundary is the number of rows up to the last row
+   */
+  private void putBoundary(final Result<R> result) {
+    if (result.isEmpty()) {
+      return;
+    }
+
+    R last = result.getLast();
+    List<Object> values = new ArrayList<>();
+    for (SortField<?> sortField : boundaryQuery.$orderBy()) {
+      Field<?> field = last.field(sortField.$field());
+      if (field == null) {
+        return;
+      }
+      values.add(last.get(field));
+    }
+    long position = currentPage.offset() + result.size();
+    OneQueryConfiguration.findPageBoundaryCache()
+        .ifPresent(cache -> cache.put(boundaryQuery, position, values));
+  }
+
+  /**
+   * @see Count#exact()
+   */
+  private void paginateExact() {
+    total = countTotal();
+    limitPage();
+  }
+
+  /**
+   * The delegate remains without {@code limit}, so it can still be counted if the page is past the
+   * end. The page query is a copy of the delegate with {@code limit} and {@code offset}, the window
+   * query adds the {@code count(*) over()} column to it
+   *
+   * @see Count#window()
+   */
+  private void paginateWindow() {
+    if (getDelegate().$distinct() || !getDelegate().$distinctOn().isEmpty()) {
+      paginateExact();
+      return;
+    }
+
+    pageQuery =
+        getDelegate().$limit(DSL.val(currentPage.size())).$offset(DSL.val(currentPage.offset()));
+
+    List<Field<?>> select = new ArrayList<>(getDelegate().getSelect());
+    select.add(WINDOW_TOTAL);
+    windowQuery = pageQuery.$select(select);
+  }
+
+  /**
+   * The delegate remains without {@code limit} and is counted, the page query is a copy of the
+   * delegate with {@code limit} and {@code offset}, so both queries can be rendered and executed at
+   * the same time. A query attached to a single JDBC connection is paginated sequentially, since
+   * the connection cannot be shared between threads. If the total is cached, only the page query is
+   * executed
+   *
+   * @see Count#concurrent(java.util.concurrent.Executor)
+   */
+  private void paginateConcurrent(final Count.Concurrent concurrent) {
+    if (getDelegate().configuration().connectionProvider() instanceof DefaultConnectionProvider) {
+      paginateExact();
+      return;
+    }
+
+    ResultQuery<Record1<Integer>> countQuery = getCountQuery();
+    Optional<CountCache> cache = OneQueryConfiguration.findCountCache();
+    Optional<Long> cached = cache.flatMap(it -> it.getIfPresent(countQuery));
+    if (cached.isPresent()) {
+      total = cached.get();
+      limitPage();
+      return;
+    }
+
+    pageQuery =
+        getDelegate().$limit(DSL.val(currentPage.size())).$offset(DSL.val(currentPage.offset()));
+    concurrentPage = new ConcurrentPage<>(countQuery, getPageQuery(), concurrent.executor());
+    cache.ifPresent(it -> concurrentPage.onTotal(value -> it.put(countQuery, value)));
+  }
+
+  /**
+   * Executes the window query once. The total number of elements is taken from the first row, if
+   * the page is empty it is 0 for the first page and is counted by a separate query otherwise. The
+   * window column is removed and the records are converted back to the record type of the delegate
+   */
+  @SuppressWarnings("unchecked")
+  private Result<R> fetchWindowPage() {
+    if (windowResult != null) {
+      return windowResult;
+    }
+
+    Result<?> rows = windowQuery.fetch();
+    if (!rows.isEmpty()) {
+      total = rows.getFirst().get(WINDOW_TOTAL, Long.class);
+    } else {
+      total = currentPage.offset() == 0 ? 0L : countTotal();
+    }
+
+    if (TableRecord.class.isAssignableFrom(getDelegate().getRecordType())) {
+      windowResult = (Result<R>) (Result<?>) rows.into(getDelegate().$from().getFirst());
+    } else {
+      Field<?>[] select = getDelegate().getSelect().toArray(new Field<?>[0]);
+      windowResult = (Result<R>) (Result<?>) rows.into(select);
+    }
+    return windowResult;
+  }
+
+  /**
+   * The estimate is taken before {@code limit} is added, if the mapper of the dialect cannot
+   * estimate the query, the total number of elements is counted
+   *
+   * @see Count#estimated()
+   */
+  private void paginateEstimated() {
+    Long estimate = estimateTotal();
+    if (estimate == null) {
+      paginateExact();
+      return;
+    }
+
+    total = estimate;
+    totalType = TotalType.ESTIMATED;
+    limitPage();
+  }
+
+  /**
+   * Counts the rows of the count source limited by {@code cap + 1}, the extra row shows that the
+   * cap is exceeded
+   *
+   * @see Count#capped(long)
+   */
+  private void paginateCapped(final Count.Capped capped) {
+    DSLContext ctx = DSL.using(getDelegate().configuration());
+    Select<Record1<Integer>> limited =
+        ctx.selectOne().from(getCountSource()).limit(capped.cap() + 1);
+    long count = fetchCount(ctx.selectCount().from(limited));
+    if (count > capped.cap()) {
+      total = capped.cap();
+      totalType = TotalType.LOWER_BOUND;
+    } else {
+      total = count;
+    }
+    limitPage();
+  }
+
+  /**
+   * The count query is executed by {@link TimeBoxedCount}, if it does not finish within the budget,
+   * the total is estimated. The total taken from the {@link CountCache} is exact and does not use
+   * the budget
+   *
+   * @see Count#timeBoxed(java.time.Duration)
+   */
+  private void paginateTimeBoxed(final Count.TimeBoxed timeBoxed) {
+    ResultQuery<Record1<Integer>> countQuery = getCountQuery();
+    Optional<CountCache> cache = OneQueryConfiguration.findCountCache();
+    total = cache.flatMap(it -> it.getIfPresent(countQuery)).orElse(null);
+    if (total == null) {
+      total = TimeBoxedCount.fetch(countQuery, timeBoxed.budget());
+      if (total != null) {
+        cache.ifPresent(it -> it.put(countQuery, total));
+      }
+    }
+
+    if (total == null) {
+      total = estimateTotal();
+      totalType = total != null ? TotalType.ESTIMATED : TotalType.UNKNOWN;
+    }
+    limitPage();
+  }
+
+  /**
+   * Returns the estimate of the mapper registered for the dialect of the query. The mapper
+   * estimates the same source as the exact count, see {@link #getCountSource()}
+   */
+  private Long estimateTotal() {
+    DSLContext ctx = DSL.using(getDelegate().configuration());
+    Select<?> source = getCountSource();
+    return findMapper().map(mapper -> mapper.estimateCount(ctx, source)).orElse(null);
+  }
+
+  /**
+   * The estimated total number of elements cannot be less than the elements that have already been
+   * read, otherwise the client would consider the fetched page to be past the end
+   */
+  private long getResultTotal(final List<?> content) {
+    if (totalType == TotalType.EXACT) {
+      return total;
+    }
+    if (totalType == TotalType.UNKNOWN) {
+      return -1;
+    }
+    return Math.max(total, currentPage.offset() + content.size());
+  }
+
+  /* ---------- private methods seek -------------------------------------------------------------------------------- */
+
+  /**
+   * Applies the keyset pagination. The total number of elements is counted before the seek
+   * condition is added. The backward cursor reads the rows before the boundary row with the
+   * reversed sort, the rows are reversed back in {@link #fetchPage()}
+   */
+  private OneQueryPaginationResultStep<R> seek(
+      final List<? extends SortField<?>> sortFields, final KeysetCursor cursor, final long size) {
+    this.currentPage = new Page(cursor.number(), size);
+    this.seekFields = sortFields;
+    this.seekBackward = cursor.backward();
+    total = unsatisfiable ? 0L : countTotal();
+
+    if (!cursor.values().isEmpty()) {
+      Condition condition = getSeekCondition(sortFields, cursor.values(), cursor.backward());
+      boolean aggregate =
+          sortFields.stream()
+              .anyMatch(sortField -> sortField.$field() instanceof AggregateFunction);
+
+      if (aggregate) {
+        getDelegate().addHaving(condition);
+      } else {
+        getDelegate().addConditions(condition);
+      }
+    }
+
+    getDelegate().addLimit(size);
+    if (cursor.backward()) {
+      pageQuery =
+          getDelegate().$orderBy(sortFields.stream().map(this::getReversedSortField).toList());
+    }
+    return this;
+  }
+
+  /** Returns the sort fields of the query, the keyset pagination is impossible without them */
+  private List<? extends SortField<?>> getSeekFields() {
+    List<? extends SortField<?>> sortFields = getDelegate().$orderBy();
+    if (sortFields.isEmpty()) {
+      throw new IllegalStateException("Keyset pagination requires at least one sort field");
+    }
+    return List.copyOf(sortFields);
+  }
+
+  /** Returns the values of the sort fields from the boundary row of the page */
+  private List<Object> getSeekValues(final R record) {
+    return seekFields.stream().<Object>map(sortField -> record.get(sortField.$field())).toList();
+  }
+
+  /**
+   * Creates the seek condition. If all sort fields have the same direction, the row value predicate
+   * {@code (a, b) > (?, ?)} is used, otherwise it is expanded to {@code a > ? or (a = ? and b < ?)}
+   */
+  private Condition getSeekCondition(
+      final List<? extends SortField<?>> sortFields, final List<?> values, final boolean backward) {
+    List<Field<?>> valuesList = new ArrayList<>(sortFields.size());
+    for (int i = 0; i < sortFields.size(); i++) {
+      valuesList.add(DSL.val(values.get(i), sortFields.get(i).$field()));
+    }
+    return getSortValuesCondition(sortFields, valuesList, backward);
+  }
+
+  /**
+   * Creates the seek condition by the fields of the values, for example, by the fields of another
+   * table
+   *
+   * @see #getSeekCondition(List, List, boolean)
+   */
+  private Condition getSortValuesCondition(
+      final List<? extends SortField<?>> sortFields,
+      final List<Field<?>> values,
+      final boolean backward) {
+    List<Boolean> greater =
+        sortFields.stream().map(sortField -> isAscending(sortField) != backward).toList();
+
+    if (greater.stream().distinct().count() == 1) {
+      List<Field<?>> fieldsList = sortFields.stream().<Field<?>>map(SortField::$field).toList();
+      return greater.getFirst()
+          ? DSL.row(fieldsList).gt(DSL.row(values))
+          : DSL.row(fieldsList).lt(DSL.row(values));
+    }
+
+    Condition condition = DSL.noCondition();
+    for (int i = 0; i < sortFields.size(); i++) {
+      Condition step = getSeekComparison(sortFields.get(i), values.get(i), greater.get(i));
+      for (int j = 0; j < i; j++) {
+        step = step.and(getSeekEquality(sortFields.get(j), values.get(j)));
+      }
+      condition = condition.or(step);
+    }
+    return condition;
+  }
+
+  private <T> Condition getSeekComparison(
+      final SortField<T> sortField, final Field<?> value, final boolean greater) {
+    Field<T> field = sortField.$field();
+    return greater ? field.gt(value.coerce(field)) : field.lt(value.coerce(field));
+  }
+
+  private <T> Condition getSeekEquality(final SortField<T> sortField, final Field<?> value) {
+    Field<T> field = sortField.$field();
+    return field.eq(value.coerce(field));
+  }
+
+  private boolean isAscending(final SortField<?> sortField) {
+    return sortField.$sortOrder() != SortOrder.DESC;
+  }
+
+  private <T> SortField<T> getReversedSortField(final SortField<T> sortField) {
+    return sortField.$field().sort(isAscending(sortField) ? SortOrder.DESC : SortOrder.ASC);
+  }
+
+  /* ---------- private methods pageOf ------------------------------------------------------------------------------ */
+
+  /**
+   * Returns the query that counts the rows before the row with the key: {@code select (select
+   * count(*) from t where c and (a, b) < (k.a, k.b)) from (select a, b from t where c and id = ?)
+   * k}. The rows are compared by the seek condition, so the count uses the index of the sort
+   */
+  private ResultQuery<Record1<Integer>> getPrecedingCountQuery(
+      final List<? extends SortField<?>> sortFields,
+      final List<Field<?>> keyFields,
+      final Object[] key) {
+    SelectQuery<R> delegate = getDelegate();
+    DSLContext ctx = DSL.using(delegate.configuration());
+    List<Field<?>> sorted = sortFields.stream().<Field<?>>map(SortField::$field).toList();
+    String[] aliases = new String[sorted.size()];
+    Arrays.setAll(aliases, i -> "one_query_sort_" + i);
+
+    Table<?> target =
+        delegate
+            .$select(sorted)
+            .$where(and(delegate.$where(), getKeyCondition(keyFields, key)))
+            .$orderBy(List.of())
+            .$offset(null)
+            .$limit(null)
+            .asTable("one_query_target", aliases);
+    List<Field<?>> values = List.of(target.fields());
+    Field<Integer> preceding =
+        DSL.field(
+            ctx.selectCount()
+                .from(delegate.$from())
+                .where(and(delegate.$where(), getSortValuesCondition(sortFields, values, true))));
+    return ctx.select(preceding).from(target);
+  }
+
+  /**
+   * Returns the query that numbers the rows by {@code row_number()} over the sort and reads the
+   * number of the row with the key, the number starts with 0
+   */
+  private ResultQuery<Record1<Integer>> getRowNumberQuery(
+      final List<? extends SortField<?>> sortFields,
+      final List<Field<?>> keyFields,
+      final Object[] key) {
+    SelectQuery<R> delegate = getDelegate();
+    DSLContext ctx = DSL.using(delegate.configuration());
+    Field<Integer> rowNumber = DSL.rowNumber().over().orderBy(sortFields).as("one_query_row");
+    List<Field<?>> select = new ArrayList<>(keyFields);
+    select.add(rowNumber);
+
+    Table<?> rows =
+        delegate
+            .$select(select)
+            .$orderBy(List.of())
+            .$offset(null)
+            .$limit(null)
+            .asTable("one_query_rows");
+    List<Field<?>> rowKeyFields = keyFields.stream().<Field<?>>map(rows::field).toList();
+    return ctx.select(rows.field(rowNumber).minus(1))
+        .from(rows)
+        .where(getKeyCondition(rowKeyFields, key));
+  }
+
+  private Condition getKeyCondition(final List<Field<?>> keyFields, final Object[] key) {
+    List<Field<?>> values = new ArrayList<>(keyFields.size());
+    for (int i = 0; i < keyFields.size(); i++) {
+      values.add(DSL.val(key[i], keyFields.get(i)));
+    }
+    return DSL.row(keyFields).eq(DSL.row(values));
+  }
+
+  private static Condition and(final Condition where, final Condition condition) {
+    return where == null ? condition : where.and(condition);
+  }
+
   /* ---------- private methods filter ------------------------------------------------------------------------------ */
 
+  /**
+   * Adds the conditions of the filters merged by {@link FilterNormalizer}. If the filters are
+   * unsatisfiable, the {@code false} condition is added and the terminal methods return an empty
+   * result without executing the queries. The filters of the query with an aggregate function
+   * without {@code group by} are not merged, since such a query returns a row even if no row
+   * matches
+   */
+  private OneQuerySortStep<R> addFilters(final Collection<? extends Filter<?>> filters) {
+    SelectQuery<R> delegate = getDelegate();
+    FilterNormalizer.Normalized normalized =
+        isAggregate(delegate)
+            ? new FilterNormalizer.Normalized(List.copyOf(filters), false)
+            : FilterNormalizer.normalize(filters);
+    filtered |= normalized.unsatisfiable() || !normalized.filters().isEmpty();
+    if (normalized.unsatisfiable()) {
+      unsatisfiable = true;
+      delegate.addConditions(DSL.falseCondition());
+      return this;
+    }
+
+    for (Filter<?> filter : normalized.filters()) {
+      Condition condition = getCondition(filter);
+
+      if (filter.field() instanceof AggregateFunction) {
+        delegate.addHaving(condition);
+      } else {
+        delegate.addConditions(condition);
+      }
+    }
+    return this;
+  }
+
   /**
    * The method accepts the {@link Filter} collection, the implementation of the method is tied to
    * using mapper methods to get {@link TableField} and creating conditions in a loop. For each
@@ -500,20 +1270,32 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
     Prefix prefix = filter.prefix();
     List<T> value = List.copyOf(filter.values());
 
-    return switch (prefix) {
-      case BW -> getBetweenCondition(field, value);
-      case EQ -> getEqualsCondition(field, value);
-      case NE -> getNotEqualsCondition(field, value);
-      case SW -> getStartsWithCondition(field, value);
-      case EW -> getEndsWithCondition(field, value);
-      case LIKE -> getLikeCondition(field, value);
-      case IS_NULL -> getEqualsNullCondition(field);
-      case IS_NOT_NULL -> getNotEqualsNullCondition(field);
-    };
+    Condition condition =
+        switch (prefix) {
+          case BW -> getBetweenCondition(field, value);
+          case EQ -> getEqualsCondition(field, value);
+          case NE -> getNotEqualsCondition(field, value);
+          case SW -> getStartsWithCondition(field, value);
+          case EW -> getEndsWithCondition(field, value);
+          case LIKE -> getLikeCondition(field, value);
+          case IS_NULL -> getEqualsNullCondition(field);
+          case IS_NOT_NULL -> getNotEqualsNullCondition(field);
+          case FTS -> getFullTextCondition(field, value);
+        };
+    return isInlineValues(field) ? DSL.inlined(condition) : condition;
+  }
+
+  /**
+   * Checks whether the key of the field is configured with {@link KeyOptions#inlineValues()}, then
+   * the values of the condition are rendered as literals
+   */
+  private boolean isInlineValues(final Field<?> field) {
+    return findMapper().map(mapper -> mapper.getKeyOptions(field).inlineValues()).orElse(false);
   }
 
   /**
    * @see Prefix#BW
+   * @see OneQueryMapper#getBetweenCondition(Field, List)
    */
   private <T> Condition getBetweenCondition(final Field<T> field, final List<T> conditionValue) {
     if (conditionValue.size() % 2 != 0) {
@@ -521,74 +1303,90 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
           String.format(
               "Conditions must be a multiple of 2. Values size: [%s]", conditionValue.size()));
     }
-    Condition condition = field.between(conditionValue.getFirst(), conditionValue.get(1));
-    for (int i = 2; i < conditionValue.size(); i += 2) {
-      condition = condition.or(field.between(conditionValue.get(i), conditionValue.get(i + 1)));
-    }
-    return condition;
+    return findMapper()
+        .map(mapper -> mapper.getBetweenCondition(field, conditionValue))
+        .orElseGet(() -> Conditions.between(field, conditionValue));
   }
 
   /**
+   * The values of the key with {@link KeyOptions#inlineValues()} are compared as a list of
+   * literals, since the mapper can bind them as a single array
+   *
    * @see Prefix#EQ
+   * @see OneQueryMapper#getEqualsCondition(Field, List)
    */
   private <T> Condition getEqualsCondition(final Field<T> field, final List<T> conditionValue) {
-    Condition condition = field.eq((conditionValue.getFirst()));
-    for (int i = 1; i < conditionValue.size(); i++) {
-      condition = condition.or(field.eq(conditionValue.get(i)));
+    if (isInlineValues(field) && !Conditions.isLarge(conditionValue)) {
+      return field.in(inline(field, conditionValue));
     }
-    return condition;
+    return findMapper()
+        .map(mapper -> mapper.getEqualsCondition(field, conditionValue))
+        .orElseGet(() -> Conditions.equalsAny(field, conditionValue));
   }
 
   /**
+   * The values of the key with {@link KeyOptions#inlineValues()} are compared as a list of
+   * literals, as in {@link #getEqualsCondition(Field, List)}
+   *
    * @see Prefix#NE
+   * @see OneQueryMapper#getNotEqualsCondition(Field, List)
    */
   private <T> Condition getNotEqualsCondition(final Field<T> field, final List<T> conditionValue) {
-    Condition condition = field.ne(conditionValue.getFirst());
-    for (int i = 1; i < conditionValue.size(); i++) {
-      condition = condition.and(field.ne(conditionValue.get(i)));
+    if (isInlineValues(field) && !Conditions.isLarge(conditionValue)) {
+      return field.notIn(inline(field, conditionValue));
     }
-    return condition;
+    return findMapper()
+        .map(mapper -> mapper.getNotEqualsCondition(field, conditionValue))
+        .orElseGet(() -> Conditions.notEqualsAll(field, conditionValue));
   }
 
   /**
    * @see Prefix#SW
+   * @see OneQueryMapper#getStartsWithCondition(Field, List)
    */
   private <T> Condition getStartsWithCondition(final Field<T> field, final List<T> conditionValue) {
-    Condition condition = field.startsWith(conditionValue.getFirst());
-    for (int i = 1; i < conditionValue.size(); i++) {
-      condition = condition.or(field.startsWith(conditionValue.get(i)));
-    }
-    return condition;
+    return findMapper()
+        .map(mapper -> mapper.getStartsWithCondition(field, conditionValue))
+        .orElseGet(() -> Conditions.startsWith(field, conditionValue));
   }
 
   /**
    * @see Prefix#EW
+   * @see OneQueryMapper#getEndsWithCondition(Field, List)
    */
   private <T> Condition getEndsWithCondition(final Field<T> field, final List<T> conditionValue) {
-    Condition condition = field.endsWith(conditionValue.getFirst());
-    for (int i = 1; i < conditionValue.size(); i++) {
-      condition = condition.or(field.endsWith(conditionValue.get(i)));
-    }
-    return condition;
+    return findMapper()
+        .map(mapper -> mapper.getEndsWithCondition(field, conditionValue))
+        .orElseGet(() -> Conditions.endsWith(field, conditionValue));
   }
 
+  /**
+   * @see Prefix#LIKE
+   * @see OneQueryMapper#getLikeCondition(Field, List)
+   */
   private <T> Condition getLikeCondition(final Field<T> field, final List<T> conditionValue) {
-    if (field.getType() != String.class) {
-      throw new IllegalArgumentException("Field must be of type String");
-    }
-
-    @SuppressWarnings("unchecked")
-    Field<String> stringField = (Field<String>) field;
-
-    List<String> patterns =
-        conditionValue.stream().filter(Objects::nonNull).map(value -> "%" + value + "%").toList();
+    Conditions.asString(field);
+    return findMapper()
+        .map(mapper -> mapper.getLikeCondition(field, conditionValue))
+        .orElseGet(() -> Conditions.like(field, conditionValue));
+  }
 
-    Condition condition = DSL.noCondition();
-    for (String pattern : patterns) {
-      condition = condition.or(stringField.likeIgnoreCase(pattern));
-    }
+  /**
+   * @see Prefix#FTS
+   * @see OneQueryMapper#getFullTextCondition(Field, List)
+   */
+  private <T> Condition getFullTextCondition(final Field<T> field, final List<T> conditionValue) {
+    return findMapper()
+        .map(mapper -> mapper.getFullTextCondition(field, conditionValue))
+        .orElseThrow(
+            () ->
+                new UnsupportedOperationException(
+                    "Full text search requires a registered mapper of dialect: [%s]"
+                        .formatted(getDelegate().configuration().dialect())));
+  }
 
-    return condition;
+  private static <T> List<Field<T>> inline(final Field<T> field, final List<T> values) {
+    return values.stream().<Field<T>>map(value -> DSL.inline(value, field)).toList();
   }
 
   private <T> Condition getEqualsNullCondition(final Field<T> field) {
@@ -601,9 +1399,14 @@ public final class OneQuery<R extends Record> extends AbstractOneQuery<SelectQue
 
   /* ---------- private methods sort -------------------------------------------------------------------------------- */
 
-  /** Creates a {@link SortField} from a {@link Sort} object */
+  /**
+   * Creates a {@link SortField} from a {@link Sort} object, the sort policy and the null ordering
+   * of the key are applied by the mapper registered for the dialect of the query
+   */
   private SortField<?> getSortField(final Sort sort) {
     if (sort == null) throw new IllegalArgumentException("Not supported sorted by null sort field");
-    return sort.field().sort(sort.sortOrder());
+    return findMapper()
+        .<SortField<?>>map(mapper -> mapper.getSortField(sort, filtered))
+        .orElseGet(() -> sort.field().sort(sort.sortOrder()));
   }
 }
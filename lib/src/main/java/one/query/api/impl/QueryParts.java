@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import java.util.function.Predicate;
+import org.jooq.DSLContext;
+import org.jooq.QueryPart;
+import org.jooq.VisitListener;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+
+/**
+ * Searches the query parts nested in a query part. The query model traversal of jOOQ is not
+ * available in the open source edition, so the query part is rendered with a {@link VisitListener},
+ * which is called for each nested query part.
+ *
+ * @version 0.1.0
+ */
+final class QueryParts {
+  private QueryParts() {}
+
+  /** Checks whether the query part is or contains a query part matching the predicate */
+  static boolean containsAny(final QueryPart part, final Predicate<? super QueryPart> predicate) {
+    boolean[] found = new boolean[1];
+    DSLContext ctx =
+        DSL.using(
+            new DefaultConfiguration()
+                .set(
+                    VisitListener.onVisitStart(
+                        context -> found[0] |= predicate.test(context.queryPart()))));
+    ctx.render(part);
+    return found[0];
+  }
+}
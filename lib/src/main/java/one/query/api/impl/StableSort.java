@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jooq.AggregateFunction;
+import org.jooq.Field;
+import org.jooq.Index;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+
+/**
+ * Makes the sort of the query unique by the primary key of the driving table, see {@link
+ * one.query.api.OneQueryPaginationStep#stableSort()}.
+ *
+ * <p>The sort is unique if it contains all the fields of the primary key or of a unique key of the
+ * driving table, otherwise the rows with equal sort values are returned in any order and a page
+ * boundary can fall between them. The keys and the indexes are taken from the generated jOOQ
+ * tables, so only the indexes known to the code generator are reported.
+ *
+ * @version 0.1.0
+ */
+final class StableSort {
+  private StableSort() {}
+
+  /**
+   * Returns the fields of the primary key of the driving table that must be appended to the sort to
+   * make it unique, empty if the sort is already unique or the rows of the query are not the rows
+   * of the driving table, for example, with {@code group by}, {@code distinct} or a join of a child
+   * table, where the primary key of the driving table is repeated in several rows
+   */
+  static List<SortField<?>> getTieBreaker(final Select<?> query) {
+    Table<?> table = getDrivingTable(query);
+    List<Field<?>> keyFields = DeferredJoin.getKeyFields(table);
+    if (keyFields.isEmpty() || isUnique(table, query.$orderBy())) {
+      return List.of();
+    }
+
+    Set<String> sorted = getSortedFields(table, query.$orderBy());
+    List<SortField<?>> tieBreaker = new ArrayList<>();
+    for (Field<?> field : keyFields) {
+      if (!sorted.contains(field.getName())) {
+        tieBreaker.add(field.asc());
+      }
+    }
+    return tieBreaker;
+  }
+
+  /**
+   * Checks whether the primary key, a unique key or an index of the driving table starts with the
+   * sort fields in the same order, with all the directions equal or all reversed. Returns {@code
+   * null} if the query has no driving table
+   */
+  static Boolean isIndexed(final Select<?> query) {
+    Table<?> table = getDrivingTable(query);
+    if (table == null) {
+      return null;
+    }
+
+    List<? extends SortField<?>> sortFields = query.$orderBy();
+    if (sortFields.isEmpty()
+        || sortFields.stream().anyMatch(sortField -> !isTableField(table, sortField))) {
+      return false;
+    }
+
+    List<List<? extends SortField<?>>> indexes = new ArrayList<>();
+    for (UniqueKey<?> key : getKeys(table)) {
+      indexes.add(key.getFields().stream().<SortField<?>>map(Field::asc).toList());
+    }
+    table.getIndexes().stream().map(Index::getFields).forEach(indexes::add);
+    return indexes.stream().anyMatch(index -> matches(index, sortFields));
+  }
+
+  /**
+   * Checks whether the sort is unique and each sort field is a not null field of the driving table,
+   * then the rows after a row of the query are exactly the rows greater than it by the row value
+   * comparison of the sort fields, see {@link one.query.api.configuration.PageBoundaryCache}. The
+   * joins of the query must not multiply the rows of the driving table, otherwise the rows sharing
+   * the sort values of the boundary row would be skipped
+   */
+  static boolean isSeekable(final Select<?> query) {
+    Table<?> table = getDrivingTable(query);
+    return table != null
+        && isUnique(table, query.$orderBy())
+        && query.$orderBy().stream()
+            .allMatch(
+                sortField ->
+                    isTableField(table, sortField) && !sortField.$field().getDataType().nullable());
+  }
+
+  /**
+   * Returns the driving table of the query whose rows are the rows of the table, {@code null} if
+   * the rows are grouped or made unique
+   */
+  static Table<?> getDrivingTable(final Select<?> query) {
+    if (query.$from().isEmpty()
+        || query.$distinct()
+        || !query.$distinctOn().isEmpty()
+        || !query.$groupBy().isEmpty()
+        || query.$select().stream().anyMatch(StableSort::hasAggregate)) {
+      return null;
+    }
+    return DeferredJoin.getDrivingTable(query.$from().getFirst());
+  }
+
+  /* ---------- private methods ------------------------------------------------------------------------------------- */
+
+  private static boolean hasAggregate(final SelectFieldOrAsterisk field) {
+    return QueryParts.containsAny(field, AggregateFunction.class::isInstance);
+  }
+
+  private static boolean isUnique(
+      final Table<?> table, final List<? extends SortField<?>> sortFields) {
+    Set<String> sorted = getSortedFields(table, sortFields);
+    return getKeys(table).stream()
+        .anyMatch(key -> key.getFields().stream().allMatch(f -> sorted.contains(f.getName())));
+  }
+
+  private static List<UniqueKey<?>> getKeys(final Table<?> table) {
+    List<UniqueKey<?>> keys = new ArrayList<>();
+    if (table.getPrimaryKey() != null) {
+      keys.add(table.getPrimaryKey());
+    }
+    keys.addAll(table.getUniqueKeys());
+    return keys;
+  }
+
+  /** Returns the names of the sorted fields of the table */
+  private static Set<String> getSortedFields(
+      final Table<?> table, final List<? extends SortField<?>> sortFields) {
+    Set<String> names = new HashSet<>();
+    for (SortField<?> sortField : sortFields) {
+      if (isTableField(table, sortField)) {
+        names.add(sortField.$field().getName());
+      }
+    }
+    return names;
+  }
+
+  private static boolean isTableField(final Table<?> table, final SortField<?> sortField) {
+    return sortField.$field() instanceof TableField<?, ?> field && table.equals(field.getTable());
+  }
+
+  private static boolean matches(
+      final List<? extends SortField<?>> index, final List<? extends SortField<?>> sortFields) {
+    if (index.size() < sortFields.size()) {
+      return false;
+    }
+
+    Set<Boolean> sameDirection = new HashSet<>();
+    for (int i = 0; i < sortFields.size(); i++) {
+      if (!index.get(i).getName().equals(sortFields.get(i).$field().getName())) {
+        return false;
+      }
+      sameDirection.add(isAscending(index.get(i)) == isAscending(sortFields.get(i)));
+    }
+    return sameDirection.size() == 1;
+  }
+
+  private static boolean isAscending(final SortField<?> sortField) {
+    return sortField.$sortOrder() != SortOrder.DESC;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.impl;
+
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.jooq.Record1;
+import org.jooq.ResultQuery;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * The count query executed within the time budget of {@link
+ * one.query.api.model.Count#timeBoxed(Duration)}. The query is executed on a virtual thread while
+ * the calling thread waits for it, if the budget is exceeded, the statement is cancelled. The
+ * {@code queryTimeout} of the statement is set to the budget rounded up to seconds, so the database
+ * stops the query even if the cancel fails.
+ *
+ * @version 0.1.0
+ */
+final class TimeBoxedCount {
+  /** The SQL state of a statement cancelled by the user or by the statement timeout */
+  private static final String QUERY_CANCELED = "57014";
+
+  /** The time to wait for the cancelled statement to be closed */
+  private static final Duration CANCEL_GRACE = Duration.ofMillis(250);
+
+  private TimeBoxedCount() {}
+
+  /**
+   * Returns the total number of elements or {@code null} if it was not counted within the budget.
+   * After the cancel, the method waits a short grace period for the statement to be closed, so the
+   * connection is returned before the page query. If the statement is not closed in time, the count
+   * query is abandoned and the page query uses another connection of the pool. A provider pinned to
+   * a single connection, such as {@link org.jooq.impl.DefaultConnectionProvider}, is the exception,
+   * the page query then waits on the connection until the database stops the count query
+   */
+  static Long fetch(final ResultQuery<Record1<Integer>> countQuery, final Duration budget) {
+    int timeout = (int) Math.max(1, (budget.toMillis() + 999) / 1000);
+    countQuery.queryTimeout(timeout);
+
+    CompletableFuture<Long> total =
+        CompletableFuture.supplyAsync(
+            () -> countQuery.fetchOneInto(Long.class), Thread::startVirtualThread);
+    try {
+      return total.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      cancel(total, countQuery);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel(total, countQuery);
+      throw new DataAccessException("Interrupted while waiting for the count query", e);
+    } catch (ExecutionException e) {
+      if (isTimeout(e.getCause())) {
+        return null;
+      }
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new DataAccessException("Failed to execute the count query", e.getCause());
+    }
+  }
+
+  private static void cancel(final CompletableFuture<Long> total, final ResultQuery<?> query) {
+    try {
+      query.cancel();
+    } catch (DataAccessException ignored) {
+      // The statement has already been closed, nothing to cancel
+    }
+    try {
+      total.handle((value, error) -> null).get(CANCEL_GRACE.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // The statement is still running, the future is abandoned and closes it when it completes
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // Not thrown, the error is handled above
+    }
+  }
+
+  private static boolean isTimeout(final Throwable error) {
+    return error instanceof DataAccessException exception
+        && (QUERY_CANCELED.equals(exception.sqlState())
+            || exception.getCause(SQLTimeoutException.class) != null);
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.mapper;
+
+import java.util.List;
+import java.util.Objects;
+import one.query.api.configuration.OneQueryConfiguration;
+import one.query.api.model.Prefix;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Row1;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * The conditions of {@link Prefix} that are supported by all dialects. Used by the default methods
+ * of {@link OneQueryMapper} and by {@link one.query.api.impl.OneQuery} if the mapper of the dialect
+ * is not registered.
+ *
+ * @author Artur Perun
+ * @version 0.1.0
+ */
+public final class Conditions {
+  /** The alias of the derived table of {@link #valuesTable(Field, List)} and its field */
+  private static final String VALUES = "one_query_values";
+
+  private static final String VALUE = "value";
+
+  private Conditions() {}
+
+  /**
+   * @see Prefix#BW
+   */
+  public static <T> Condition between(final Field<T> field, final List<T> values) {
+    Condition condition = field.between(values.getFirst(), values.get(1));
+    for (int i = 2; i < values.size(); i += 2) {
+      condition = condition.or(field.between(values.get(i), values.get(i + 1)));
+    }
+    return condition;
+  }
+
+  /**
+   * If the number of values exceeds {@link OneQueryConfiguration#getLargeValuesThreshold()}, the
+   * values are semi-joined by {@link #valuesTable(Field, List)}
+   *
+   * @see Prefix#EQ
+   */
+  public static <T> Condition equalsAny(final Field<T> field, final List<T> values) {
+    if (isLarge(values)) {
+      return field.in(valuesTable(field, values));
+    }
+    return values.size() == 1 ? field.eq(values.getFirst()) : field.in(values);
+  }
+
+  /**
+   * If the number of values exceeds {@link OneQueryConfiguration#getLargeValuesThreshold()}, the
+   * values are anti-joined by {@link #valuesTable(Field, List)}
+   *
+   * @see Prefix#NE
+   */
+  public static <T> Condition notEqualsAll(final Field<T> field, final List<T> values) {
+    if (isLarge(values)) {
+      return field.notIn(valuesTable(field, values));
+    }
+    return values.size() == 1 ? field.ne(values.getFirst()) : field.notIn(values);
+  }
+
+  /** Checks whether the values exceed {@link OneQueryConfiguration#getLargeValuesThreshold()} */
+  public static boolean isLarge(final List<?> values) {
+    return values.size() > OneQueryConfiguration.getLargeValuesThreshold();
+  }
+
+  /**
+   * Returns {@code select value from (values (1), (2), ...) as t(value)} with the inlined values,
+   * so the number of values is not limited by the number of bind values of the driver
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Select<Record1<T>> valuesTable(final Field<T> field, final List<T> values) {
+    Row1<T>[] rows =
+        values.stream().map(value -> DSL.row(DSL.inline(value, field))).toArray(Row1[]::new);
+    Table<Record1<T>> table = DSL.values(rows).as(VALUES, VALUE);
+    return DSL.select(table.field(VALUE, field.getDataType())).from(table);
+  }
+
+  /**
+   * @see Prefix#SW
+   */
+  public static <T> Condition startsWith(final Field<T> field, final List<T> values) {
+    Condition condition = field.startsWith(values.getFirst());
+    for (int i = 1; i < values.size(); i++) {
+      condition = condition.or(field.startsWith(values.get(i)));
+    }
+    return condition;
+  }
+
+  /**
+   * Creates {@link Prefix#SW} as the range {@code field >= 'v' and field < 'w'}, where {@code 'w'}
+   * is {@link #successor(String)} of the value, so it is matched by a range scan of a btree index.
+   * The range is equal to {@code like 'v%'} only if the field is compared by code points, so the
+   * field must have a binary collation, for example {@code collate "C"}
+   *
+   * @see Prefix#SW
+   */
+  public static Condition startsWithRange(final Field<String> field, final List<?> values) {
+    Condition condition = getPrefixRange(field, values.getFirst());
+    for (int i = 1; i < values.size(); i++) {
+      condition = condition.or(getPrefixRange(field, values.get(i)));
+    }
+    return condition;
+  }
+
+  /**
+   * Returns the smallest string that is greater than all the strings starting with the value in the
+   * order of code points, or {@code null} if there is no such string. The last code point that can
+   * be incremented is incremented and the code points after it are dropped, the surrogate code
+   * points are skipped
+   */
+  public static String successor(final String value) {
+    int[] codePoints = value.codePoints().toArray();
+    for (int i = codePoints.length - 1; i >= 0; i--) {
+      int next = codePoints[i] + 1;
+      if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+        next = Character.MAX_SURROGATE + 1;
+      }
+      if (next <= Character.MAX_CODE_POINT) {
+        return new String(codePoints, 0, i) + Character.toString(next);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @see Prefix#EW
+   */
+  public static <T> Condition endsWith(final Field<T> field, final List<T> values) {
+    Condition condition = field.endsWith(values.getFirst());
+    for (int i = 1; i < values.size(); i++) {
+      condition = condition.or(field.endsWith(values.get(i)));
+    }
+    return condition;
+  }
+
+  /**
+   * Creates {@link Prefix#EW} as {@code reverse(field) like 'v%'} with the reversed value, so the
+   * suffix search is matched by an index on {@code reverse(field)}
+   *
+   * @see Prefix#EW
+   */
+  public static <T> Condition endsWithReversed(final Field<T> field, final List<T> values) {
+    Field<String> reversed = DSL.reverse(asString(field));
+    Condition condition = reversed.startsWith(reverse(values.getFirst()));
+    for (int i = 1; i < values.size(); i++) {
+      condition = condition.or(reversed.startsWith(reverse(values.get(i))));
+    }
+    return condition;
+  }
+
+  /** Reverses the value by code points, as {@code reverse()} of the database does */
+  public static String reverse(final Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    int[] codePoints = String.valueOf(value).codePoints().toArray();
+    StringBuilder builder = new StringBuilder();
+    for (int i = codePoints.length - 1; i >= 0; i--) {
+      builder.appendCodePoint(codePoints[i]);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @see Prefix#LIKE
+   */
+  public static <T> Condition like(final Field<T> field, final List<T> values) {
+    Field<String> stringField = asString(field);
+
+    Condition condition = DSL.noCondition();
+    for (String pattern : getContainsPatterns(values)) {
+      condition = condition.or(stringField.likeIgnoreCase(pattern));
+    }
+    return condition;
+  }
+
+  /**
+   * Returns the field of {@link Prefix#LIKE}, it must be of type {@link String}
+   *
+   * @throws IllegalArgumentException if the field is not of type {@link String}
+   */
+  @SuppressWarnings("unchecked")
+  public static Field<String> asString(final Field<?> field) {
+    if (field.getType() != String.class) {
+      throw new IllegalArgumentException("Field must be of type String");
+    }
+    return (Field<String>) field;
+  }
+
+  /**
+   * The {@code null} value is compared by {@code like} to keep its semantics, the value without a
+   * {@link #successor(String)} has no upper bound
+   */
+  private static Condition getPrefixRange(final Field<String> field, final Object value) {
+    if (value == null) {
+      return field.startsWith((String) null);
+    }
+
+    String lower = String.valueOf(value);
+    String upper = successor(lower);
+    return upper == null ? field.ge(lower) : field.ge(lower).and(field.lt(upper));
+  }
+
+  /** Returns the patterns of {@link Prefix#LIKE}, the {@code null} values are skipped */
+  public static List<String> getContainsPatterns(final List<?> values) {
+    return values.stream().filter(Objects::nonNull).map(value -> "%" + value + "%").toList();
+  }
+}
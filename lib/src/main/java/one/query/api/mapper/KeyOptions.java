@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.mapper;
+
+import java.util.Objects;
+import org.jooq.Field;
+
+/**
+ * A class that represents the options of a key of the mapper configuration, the options change how
+ * the conditions of the field of the key are created.
+ *
+ * @param startsWithRange {@link one.query.api.model.Prefix#SW} is created as the range {@code field
+ *     >= 'v' and field < 'w'} instead of {@code field like 'v%'}, see {@link
+ *     Conditions#startsWithRange(org.jooq.Field, java.util.List)}
+ * @param reverseIndexed {@link one.query.api.model.Prefix#EW} is created as {@code reverse(field)
+ *     like 'v%'} with the reversed value instead of {@code field like '%v'}, so it is matched by an
+ *     index on {@code reverse(field)}, see {@link
+ *     one.query.api.mapper.OneQueryMapper#expectedIndexes(org.jooq.DSLContext)}
+ * @param textSearchConfig the text search configuration of {@link one.query.api.model.Prefix#FTS},
+ *     if {@code null}, the default configuration of the mapper
+ * @param textSearchVector the stored {@code tsvector} column matched by {@link
+ *     one.query.api.model.Prefix#FTS}, if {@code null}, the vector is calculated from the field
+ * @param inlineValues the values of the filters of the key are inlined as literals instead of bind
+ *     values, so the planner sees the real values of skewed low cardinality fields even when the
+ *     prepared statement switches to a generic plan
+ * @param sortPolicy how the sort of the key is applied, see {@link SortPolicy}
+ * @param sortExpression the expression sorted instead of the field of the key if the policy is
+ *     {@link SortPolicy#REWRITE}
+ * @param nullsFirst the null ordering of the ascending index of the key, the descending sort gets
+ *     the opposite one, so the sort matches the index in both directions and is read by an index
+ *     scan instead of a top-N sort, if {@code null}, the default of the database
+ * @version 0.1.0
+ */
+public record KeyOptions(
+    boolean startsWithRange,
+    boolean reverseIndexed,
+    String textSearchConfig,
+    Field<?> textSearchVector,
+    boolean inlineValues,
+    SortPolicy sortPolicy,
+    Field<?> sortExpression,
+    Boolean nullsFirst) {
+  /** The options of the keys that are not configured */
+  public static final KeyOptions DEFAULT =
+      new KeyOptions(false, false, null, null, false, SortPolicy.ALLOWED, null, null);
+
+  public KeyOptions {
+    if (textSearchConfig != null && textSearchConfig.isBlank()) {
+      throw new IllegalArgumentException("Text search config must not be blank");
+    }
+    Objects.requireNonNull(sortPolicy, "Sort policy must not be null");
+    if (sortPolicy == SortPolicy.REWRITE && sortExpression == null) {
+      throw new IllegalArgumentException("Sort expression must not be null for REWRITE policy");
+    }
+  }
+
+  public KeyOptions withStartsWithRange(final boolean startsWithRange) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        sortPolicy,
+        sortExpression,
+        nullsFirst);
+  }
+
+  public KeyOptions withReverseIndexed(final boolean reverseIndexed) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        sortPolicy,
+        sortExpression,
+        nullsFirst);
+  }
+
+  public KeyOptions withTextSearchConfig(final String textSearchConfig) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        sortPolicy,
+        sortExpression,
+        nullsFirst);
+  }
+
+  public KeyOptions withTextSearchVector(final Field<?> textSearchVector) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        sortPolicy,
+        sortExpression,
+        nullsFirst);
+  }
+
+  public KeyOptions withInlineValues(final boolean inlineValues) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        sortPolicy,
+        sortExpression,
+        nullsFirst);
+  }
+
+  public KeyOptions withSortPolicy(final SortPolicy sortPolicy) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        sortPolicy,
+        sortExpression,
+        nullsFirst);
+  }
+
+  public KeyOptions withNullsFirst(final Boolean nullsFirst) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        sortPolicy,
+        sortExpression,
+        nullsFirst);
+  }
+
+  /** Sorts the key by the expression, sets {@link SortPolicy#REWRITE} */
+  public KeyOptions withSortExpression(final Field<?> sortExpression) {
+    return new KeyOptions(
+        startsWithRange,
+        reverseIndexed,
+        textSearchConfig,
+        textSearchVector,
+        inlineValues,
+        SortPolicy.REWRITE,
+        sortExpression,
+        nullsFirst);
+  }
+}
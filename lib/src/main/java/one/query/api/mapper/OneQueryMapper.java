@@ -22,8 +22,12 @@ import one.query.api.configuration.OneQueryConfiguration;
 import one.query.api.model.Filter;
 import one.query.api.model.Prefix;
 import one.query.api.model.Sort;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SortField;
 import org.jooq.SortOrder;
 import org.jooq.TableField;
 
@@ -128,6 +132,33 @@ public interface OneQueryMapper {
     return new Sort(getField(key), direction);
   }
 
+  /**
+   * Method that creates the sort field of {@link Sort} by the {@link KeyOptions} of its field. The
+   * field is replaced by {@link KeyOptions#sortExpression()} if the policy is {@link
+   * SortPolicy#REWRITE}, the null ordering is set by {@link KeyOptions#nullsFirst()}
+   *
+   * @param filtered whether the query is filtered by {@code .filter()} or {@code .filterBy()}
+   * @throws IllegalArgumentException if the policy is {@link SortPolicy#WITH_FILTER} and the query
+   *     is not filtered
+   */
+  default SortField<?> getSortField(final Sort sort, final boolean filtered) {
+    KeyOptions options = getKeyOptions(sort.field());
+    if (options.sortPolicy() == SortPolicy.WITH_FILTER && !filtered) {
+      throw new IllegalArgumentException(
+          "Sort by field: [%s] requires a filter".formatted(sort.field().getName()));
+    }
+
+    Field<?> field =
+        options.sortPolicy() == SortPolicy.REWRITE ? options.sortExpression() : sort.field();
+    SortField<?> sortField = field.sort(sort.sortOrder());
+    if (options.nullsFirst() == null) {
+      return sortField;
+    }
+
+    boolean descending = sort.sortOrder() == SortOrder.DESC;
+    return options.nullsFirst() != descending ? sortField.nullsFirst() : sortField.nullsLast();
+  }
+
   /* ---------- .getTable() & .getTableField() ---------------------------------------------------------------------- */
 
   /**
@@ -137,6 +168,112 @@ public interface OneQueryMapper {
    */
   <T> Field<T> getField(String value);
 
+  /**
+   * Method that returns the options of the key of the field, which change how the conditions of the
+   * field are created. By default, {@link KeyOptions#DEFAULT}
+   */
+  default KeyOptions getKeyOptions(final Field<?> field) {
+    return KeyOptions.DEFAULT;
+  }
+
+  /* ---------- conditions ------------------------------------------------------------------------------------------ */
+
+  /**
+   * Method that creates the condition of {@link Prefix#BW}, the odd values are the lower bounds and
+   * the even values are the upper bounds of the ranges. By default, the ranges are joined by {@code
+   * or}
+   */
+  default <T> Condition getBetweenCondition(final Field<T> field, final List<T> values) {
+    return Conditions.between(field, values);
+  }
+
+  /**
+   * Method that creates the condition of {@link Prefix#EQ}, the field must be equal to one of the
+   * values. By default, a single value is compared by {@code =}, several values by {@code in}
+   */
+  default <T> Condition getEqualsCondition(final Field<T> field, final List<T> values) {
+    return Conditions.equalsAny(field, values);
+  }
+
+  /**
+   * Method that creates the condition of {@link Prefix#NE}, the field must not be equal to any of
+   * the values. By default, a single value is compared by {@code <>}, several values by {@code not
+   * in}
+   */
+  default <T> Condition getNotEqualsCondition(final Field<T> field, final List<T> values) {
+    return Conditions.notEqualsAll(field, values);
+  }
+
+  /**
+   * Method that creates the condition of {@link Prefix#SW}. By default, a {@code like} predicate is
+   * created for each value and joined by {@code or}. If the key of the string field is configured
+   * with {@link KeyOptions#startsWithRange()}, a range is created for each value
+   *
+   * @see Conditions#startsWithRange(Field, List)
+   */
+  default <T> Condition getStartsWithCondition(final Field<T> field, final List<T> values) {
+    if (getKeyOptions(field).startsWithRange() && field.getType() == String.class) {
+      return Conditions.startsWithRange(Conditions.asString(field), values);
+    }
+    return Conditions.startsWith(field, values);
+  }
+
+  /**
+   * Method that creates the condition of {@link Prefix#EW}. By default, a {@code like} predicate is
+   * created for each value and joined by {@code or}. If the key of the string field is configured
+   * with {@link KeyOptions#reverseIndexed()}, the reversed field is compared with the reversed
+   * values
+   *
+   * @see Conditions#endsWithReversed(Field, List)
+   */
+  default <T> Condition getEndsWithCondition(final Field<T> field, final List<T> values) {
+    if (getKeyOptions(field).reverseIndexed() && field.getType() == String.class) {
+      return Conditions.endsWithReversed(field, values);
+    }
+    return Conditions.endsWith(field, values);
+  }
+
+  /**
+   * Method that creates the condition of {@link Prefix#LIKE}. By default, a case-insensitive {@code
+   * like} predicate is created for each value and joined by {@code or}
+   */
+  default <T> Condition getLikeCondition(final Field<T> field, final List<T> values) {
+    return Conditions.like(field, values);
+  }
+
+  /**
+   * Method that creates the condition of {@link Prefix#FTS}. By default, full text search is not
+   * supported
+   *
+   * @throws UnsupportedOperationException if the dialect does not support full text search
+   */
+  default <T> Condition getFullTextCondition(final Field<T> field, final List<T> values) {
+    throw new UnsupportedOperationException(
+        "Full text search is not supported by dialect: [%s]".formatted(getDialect()));
+  }
+
+  /* ---------- .expectedIndexes() ---------------------------------------------------------------------------------- */
+
+  /**
+   * Method that returns the DDL of the indexes expected by the conditions of the configured keys,
+   * for example the index on {@code reverse(field)} of {@link KeyOptions#reverseIndexed()}. The
+   * names are rendered by the settings of the passed context. By default, an empty list
+   */
+  default List<String> expectedIndexes(final DSLContext ctx) {
+    return List.of();
+  }
+
+  /* ---------- .estimateCount() ------------------------------------------------------------------------------------ */
+
+  /**
+   * Method that estimates the number of rows of the query using the statistics of the database,
+   * without executing the query. Used by {@link one.query.api.model.Count#estimated()}. Returns
+   * {@code null} if the dialect does not support estimation, then the rows are counted exactly.
+   */
+  default Long estimateCount(final DSLContext ctx, final Select<?> query) {
+    return null;
+  }
+
   /* ---------- .register() ----------------------------------------------------------------------------------------- */
 
   /** Method to allow a mapper to be registered in the registry */
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.mapper;
+
+/**
+ * Defines how the {@link one.query.api.model.Sort} of a key of the mapper configuration is applied,
+ * see {@link KeyOptions#sortPolicy()}.
+ *
+ * @version 0.1.0
+ */
+public enum SortPolicy {
+  /** The query can be sorted by the field of the key. Used by default */
+  ALLOWED,
+
+  /**
+   * The query can be sorted by the field of the key only if it is filtered by {@code .filter()} or
+   * {@code .filterBy()}, so the database sorts the filtered rows and not the whole table
+   */
+  WITH_FILTER,
+
+  /**
+   * The query is sorted by {@link KeyOptions#sortExpression()} instead of the field of the key, for
+   * example, by an indexed expression or column with the same order
+   */
+  REWRITE
+}
@@ -16,31 +16,162 @@
 package one.query.api.mapper.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import one.query.api.mapper.KeyOptions;
 import one.query.api.mapper.OneQueryMapper;
 import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
 
 public abstract class AbstractOneQueryMapper implements OneQueryMapper {
   protected final ObjectMapper objectMapper;
   private final Map<String, Field<?>> configurationMap;
+  private final Map<String, KeyOptions> keyOptions = new ConcurrentHashMap<>();
+  private final Map<Field<?>, KeyOptions> fieldOptions = new ConcurrentHashMap<>();
+  private final Map<String, Field<?>> searchKeys = new ConcurrentHashMap<>();
+  private final Map<String, Table<?>> searchTables = new ConcurrentHashMap<>();
+
+  /**
+   * The converters of the raw values by the target type, see {@link ValueConverters}. The
+   * converters of the types of the configured fields are resolved on construction
+   */
+  private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Whether the {@link ValueConverters} are used, only with the default {@link ObjectMapper}
+   * created by the mapper. The passed {@link ObjectMapper} can have modules and coercion settings
+   * that the converters do not reproduce, so it converts all the values
+   */
+  private final boolean useConverters;
 
   protected AbstractOneQueryMapper(final Map<String, Field<?>> configurationMap) {
-    this.configurationMap = configurationMap;
-    this.objectMapper = new ObjectMapper();
+    this(new ObjectMapper(), configurationMap, true);
   }
 
   protected AbstractOneQueryMapper(
       final ObjectMapper objectMapper, Map<String, Field<?>> configurationMap) {
+    this(objectMapper, configurationMap, false);
+  }
+
+  private AbstractOneQueryMapper(
+      final ObjectMapper objectMapper,
+      final Map<String, Field<?>> configurationMap,
+      final boolean useConverters) {
     this.objectMapper = objectMapper;
     this.configurationMap = configurationMap;
+    this.useConverters = useConverters;
+    if (useConverters) {
+      configurationMap
+          .values()
+          .forEach(field -> converters.computeIfAbsent(field.getType(), ValueConverters::forType));
+    }
   }
 
   @Override
   public boolean existsKey(final String key) {
-    return configurationMap.containsKey(key);
+    return configurationMap.containsKey(key) || searchKeys.containsKey(key);
+  }
+
+  /**
+   * Registers the key of a search over several fields of a table. The fields are concatenated by
+   * {@code coalesce(f1, '') || ' ' || coalesce(f2, '')}, so a single filter of the key, for example
+   * {@link one.query.api.model.Prefix#LIKE} or {@link one.query.api.model.Prefix#FTS}, is matched
+   * against one expression that can be indexed, see {@link #expectedIndexes(org.jooq.DSLContext)}.
+   * A single field, for example a stored generated column of the concatenation, is used as is
+   *
+   * @throws IllegalArgumentException if the key already exists, or the fields are not passed or are
+   *     not the fields of the same table
+   */
+  public AbstractOneQueryMapper registerSearchKey(final String key, final Field<?>... fields) {
+    if (fields.length == 0) {
+      throw new IllegalArgumentException("Search key must have at least one field");
+    }
+    if (existsKey(key)) {
+      throw new IllegalArgumentException("Key: [%s] already exists".formatted(key));
+    }
+
+    Table<?> table = null;
+    for (Field<?> field : fields) {
+      Table<?> fieldTable =
+          field instanceof TableField<?, ?> tableField ? tableField.getTable() : null;
+      if (fieldTable == null || (table != null && !table.equals(fieldTable))) {
+        throw new IllegalArgumentException(
+            "Fields of search key: [%s] must be the fields of the same table".formatted(key));
+      }
+      table = fieldTable;
+    }
+
+    searchTables.put(key, table);
+    searchKeys.put(key, fields.length == 1 ? fields[0] : concatenate(fields));
+    return this;
+  }
+
+  /**
+   * Sets the options of the key, the options are applied to the conditions of the field of the key.
+   * Since the conditions are created by the field, the keys of the same field share the options, so
+   * the other keys of the field must be configured with the same options
+   *
+   * @throws NoSuchElementException if the key does not exist in the configuration
+   * @throws IllegalArgumentException if another key of the same field has other options
+   */
+  public synchronized AbstractOneQueryMapper configureKey(
+      final String key, final KeyOptions options) {
+    Objects.requireNonNull(options, "Key options must not be null");
+    Field<?> field = getField(key);
+    keyOptions.forEach(
+        (otherKey, otherOptions) -> {
+          if (!otherKey.equals(key)
+              && getField(otherKey).equals(field)
+              && !otherOptions.equals(options)) {
+            throw new IllegalArgumentException(
+                "Key: [%s] has other options than key: [%s] of the same field"
+                    .formatted(key, otherKey));
+          }
+        });
+    fieldOptions.put(field, options);
+    keyOptions.put(key, options);
+    return this;
   }
 
+  @Override
+  public KeyOptions getKeyOptions(final Field<?> field) {
+    return fieldOptions.getOrDefault(field, KeyOptions.DEFAULT);
+  }
+
+  /** Returns the configured keys and the search keys ordered by key */
+  protected List<ConfiguredKey> getConfiguredKeys() {
+    Set<String> keys = new TreeSet<>(keyOptions.keySet());
+    keys.addAll(searchKeys.keySet());
+
+    List<ConfiguredKey> configuredKeys = new ArrayList<>();
+    for (String key : keys) {
+      Field<?> field = getField(key);
+      boolean search = searchKeys.containsKey(key);
+      Table<?> table =
+          search
+              ? searchTables.get(key)
+              : field instanceof TableField<?, ?> tableField ? tableField.getTable() : null;
+      configuredKeys.add(new ConfiguredKey(key, field, table, search, getKeyOptions(field)));
+    }
+    return configuredKeys;
+  }
+
+  /**
+   * Converts the value by {@link ValueConverters} if the mapper uses the default {@link
+   * ObjectMapper} and there is a converter for the class of the value, otherwise or if the
+   * converter rejects the value, by the {@link ObjectMapper}
+   */
   @Override
   @SuppressWarnings("unchecked")
   public <T> T convertValueSafely(final Object rawValue, final Class<T> targetType) {
@@ -50,6 +181,20 @@ public abstract class AbstractOneQueryMapper implements OneQueryMapper {
       return (T) rawValue;
     }
 
+    Function<Object, Object> converter =
+        useConverters
+            ? converters
+                .computeIfAbsent(targetType, ValueConverters::forType)
+                .get(rawValue.getClass())
+            : null;
+    if (converter != null) {
+      try {
+        return (T) converter.apply(rawValue);
+      } catch (RuntimeException e) {
+        // the ObjectMapper reports the error or converts the lenient form of the value
+      }
+    }
+
     try {
       return objectMapper.convertValue(rawValue, targetType);
     } catch (IllegalArgumentException e) {
@@ -61,10 +206,36 @@ public abstract class AbstractOneQueryMapper implements OneQueryMapper {
   @Override
   @SuppressWarnings("unchecked")
   public <T> Field<T> getField(final String key) {
-    if (!configurationMap.containsKey(key)) {
-      throw new NoSuchElementException("Field by key: [%s] not found".formatted(key));
+    if (configurationMap.containsKey(key)) {
+      return (Field<T>) configurationMap.get(key);
+    }
+    if (searchKeys.containsKey(key)) {
+      return (Field<T>) searchKeys.get(key);
     }
 
-    return (Field<T>) configurationMap.get(key);
+    throw new NoSuchElementException("Field by key: [%s] not found".formatted(key));
   }
+
+  @SuppressWarnings("unchecked")
+  private static Field<String> concatenate(final Field<?>... fields) {
+    List<Field<?>> parts = new ArrayList<>();
+    for (Field<?> field : fields) {
+      if (!parts.isEmpty()) {
+        parts.add(DSL.inline(" "));
+      }
+      Field<String> text =
+          field.getType() == String.class ? (Field<String>) field : field.cast(SQLDataType.VARCHAR);
+      parts.add(DSL.coalesce(text, DSL.inline("")));
+    }
+    return DSL.concat(parts.toArray(Field<?>[]::new));
+  }
+
+  /**
+   * The key with its field and options
+   *
+   * @param table the table of the field, {@code null} if the field is not a table field
+   * @param search whether the key is registered by {@link #registerSearchKey(String, Field[])}
+   */
+  protected record ConfiguredKey(
+      String key, Field<?> field, Table<?> table, boolean search, KeyOptions options) {}
 }
@@ -15,14 +15,54 @@
  */
 package one.query.api.mapper.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import one.query.api.configuration.OneQueryConfiguration;
+import one.query.api.mapper.Conditions;
+import one.query.api.mapper.KeyOptions;
+import one.query.api.model.Prefix;
+import org.jooq.AggregateFunction;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.DataType;
 import org.jooq.Field;
+import org.jooq.QueryPart;
+import org.jooq.Record1;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.VisitListener;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.SQLDataType;
 
 public class PostgresMapper extends AbstractOneQueryMapper {
   public static final SQLDialect SQL_DIALECT = SQLDialect.POSTGRES;
 
+  /** The alias of the {@code unnest} ranges of {@link Prefix#BW} in the stable shape */
+  private static final String RANGE = "one_query_range";
+
+  /**
+   * The collation that compares strings by code points, as plain SQL, since the names are rendered
+   * by the settings of the query, which can change the case of the quoted name
+   */
+  private static final QueryPart BINARY_COLLATION = DSL.sql("\"C\"");
+
+  /** The text search configuration of {@link Prefix#FTS} if the key does not set it */
+  private static final String DEFAULT_TEXT_SEARCH_CONFIG = "simple";
+
+  /**
+   * A flag that the conditions of all prefixes bind their values as arrays, see {@link
+   * #stableShape(boolean)}
+   */
+  private volatile boolean stableShape;
+
   public PostgresMapper(final Map<String, Field<?>> configurationMap) {
     super(configurationMap);
   }
@@ -36,4 +76,343 @@ public class PostgresMapper extends AbstractOneQueryMapper {
   public SQLDialect getDialect() {
     return SQL_DIALECT;
   }
+
+  /**
+   * Enables the stable shape of the conditions. The values of {@link Prefix#EQ} and {@link
+   * Prefix#NE} are always bound as a single array, in the stable shape the ranges of {@link
+   * Prefix#BW} are bound as two arrays joined by {@code unnest}, and the patterns of {@link
+   * Prefix#SW}, {@link Prefix#EW} and {@link Prefix#LIKE} are bound as a single array of {@code
+   * like any} and {@code ilike any}. The statement text then depends only on the filtered fields
+   * and prefixes, not on the number of values, so the prepared statement cache of the driver and
+   * {@code pg_stat_statements} see the same statement.
+   */
+  public PostgresMapper stableShape(final boolean stableShape) {
+    this.stableShape = stableShape;
+    return this;
+  }
+
+  public boolean isStableShape() {
+    return stableShape;
+  }
+
+  /**
+   * In the stable shape, {@code exists (select 1 from unnest(?::type[], ?::type[]) as r(lo, hi)
+   * where field between r.lo and r.hi)}
+   */
+  @Override
+  public <T> Condition getBetweenCondition(final Field<T> field, final List<T> values) {
+    if (!stableShape) {
+      return Conditions.between(field, values);
+    }
+
+    List<T> lower = new ArrayList<>();
+    List<T> upper = new ArrayList<>();
+    for (int i = 0; i < values.size(); i += 2) {
+      lower.add(values.get(i));
+      upper.add(values.get(i + 1));
+    }
+
+    Table<?> ranges =
+        DSL.table("unnest({0}, {1})", toArray(field, lower), toArray(field, upper))
+            .as(RANGE, "lo", "hi");
+    Field<T> lo = DSL.field(DSL.name(RANGE, "lo"), field.getDataType());
+    Field<T> hi = DSL.field(DSL.name(RANGE, "hi"), field.getDataType());
+    return DSL.exists(DSL.selectOne().from(ranges).where(field.between(lo, hi)));
+  }
+
+  /**
+   * If the key is configured with {@link KeyOptions#startsWithRange()}, the range is compared in
+   * {@code collate "C"}, so it is equal to {@code like 'v%'} in any database collation and is
+   * matched by the index {@code create index on table ((field collate "C"))}, or by a plain index
+   * if the database collation is {@code C}. In the stable shape, {@code field like
+   * any(?::varchar[])}
+   */
+  @Override
+  public <T> Condition getStartsWithCondition(final Field<T> field, final List<T> values) {
+    if (getKeyOptions(field).startsWithRange() && field.getType() == String.class) {
+      Field<String> text = Conditions.asString(field);
+      Field<String> collated = DSL.field("({0} collate {1})", String.class, text, BINARY_COLLATION);
+      return Conditions.startsWithRange(collated, values);
+    }
+    if (!stableShape) {
+      return Conditions.startsWith(field, values);
+    }
+    return likeAny(field, values.stream().map(value -> escapeLike(value, "", "%")).toList(), false);
+  }
+
+  /**
+   * If the key is configured with {@link KeyOptions#reverseIndexed()}, {@code reverse(field) like
+   * 'v%'}. In the stable shape, {@code field like any(?::varchar[])}
+   */
+  @Override
+  public <T> Condition getEndsWithCondition(final Field<T> field, final List<T> values) {
+    if (getKeyOptions(field).reverseIndexed() && field.getType() == String.class) {
+      return Conditions.endsWithReversed(field, values);
+    }
+    if (!stableShape) {
+      return Conditions.endsWith(field, values);
+    }
+    return likeAny(field, values.stream().map(value -> escapeLike(value, "%", "")).toList(), false);
+  }
+
+  /** In the stable shape, {@code field ilike any(?::varchar[])} */
+  @Override
+  public <T> Condition getLikeCondition(final Field<T> field, final List<T> values) {
+    if (!stableShape) {
+      return Conditions.like(field, values);
+    }
+
+    List<String> patterns = Conditions.getContainsPatterns(values);
+    if (patterns.isEmpty()) {
+      return DSL.noCondition();
+    }
+    return likeAny(Conditions.asString(field), patterns, true);
+  }
+
+  /**
+   * The values are bound as a single array, {@code field = any(?::type[])}, so the statement text
+   * and the number of bind values do not depend on the number of values. If the number of values
+   * exceeds {@link OneQueryConfiguration#getLargeValuesThreshold()}, the array is semi-joined,
+   * {@code field in (select unnest(?::type[]))}, which lets the planner hash the values instead of
+   * scanning the array for every row
+   */
+  @Override
+  public <T> Condition getEqualsCondition(final Field<T> field, final List<T> values) {
+    if (Conditions.isLarge(values)) {
+      return field.in(unnest(field, values));
+    }
+    return field.eq(DSL.any(toArray(field, values)));
+  }
+
+  /**
+   * The values are bound as a single array, {@code field <> all(?::type[])}, or anti-joined as
+   * {@code field not in (select unnest(?::type[]))} if there are many of them
+   */
+  @Override
+  public <T> Condition getNotEqualsCondition(final Field<T> field, final List<T> values) {
+    if (Conditions.isLarge(values)) {
+      return field.notIn(unnest(field, values));
+    }
+    return field.ne(DSL.all(toArray(field, values)));
+  }
+
+  /**
+   * {@code to_tsvector('config', field) @@ websearch_to_tsquery('config', ?)} for each value,
+   * joined by {@code or}, or {@code vector @@ ...} if {@link KeyOptions#textSearchVector()} is
+   * configured. The configuration is inlined, so the condition is matched by the expression index
+   * {@code using gin (to_tsvector('config', field))}. If the configuration of the key is not set,
+   * {@code simple} is used. The {@code null} values are skipped
+   */
+  @Override
+  public <T> Condition getFullTextCondition(final Field<T> field, final List<T> values) {
+    KeyOptions options = getKeyOptions(field);
+    Field<Object> config = getTextSearchConfig(options);
+    Field<?> vector =
+        options.textSearchVector() != null
+            ? options.textSearchVector()
+            : DSL.field("to_tsvector({0}, {1})", config, Conditions.asString(field));
+
+    Condition condition = DSL.noCondition();
+    for (T value : values) {
+      if (value != null) {
+        condition =
+            condition.or(
+                DSL.condition(
+                    "{0} @@ websearch_to_tsquery({1}, {2})",
+                    vector, config, DSL.val(String.valueOf(value))));
+      }
+    }
+    return condition;
+  }
+
+  /**
+   * Returns {@code create index if not exists} of the configured keys of table fields: {@code
+   * (field collate "C")} for {@link KeyOptions#startsWithRange()}, {@code (reverse(field)
+   * text_pattern_ops)} for {@link KeyOptions#reverseIndexed()}, the operator class lets {@code like
+   * 'v%'} use the index in any database collation, and {@code using gin} of the vector of {@link
+   * Prefix#FTS} for the search keys and the keys with {@link KeyOptions#textSearchConfig()} or
+   * {@link KeyOptions#textSearchVector()}. The indexes are named {@code <table>_<field or
+   * key>_<suffix>_idx}
+   */
+  @Override
+  public List<String> expectedIndexes(final DSLContext ctx) {
+    List<String> indexes = new ArrayList<>();
+    for (ConfiguredKey key : getConfiguredKeys()) {
+      if (key.table() == null) {
+        continue;
+      }
+
+      KeyOptions options = key.options();
+      if (options.startsWithRange()) {
+        indexes.add(getIndex(ctx, key, "range", "btree", "({0} collate \"C\")", key.field()));
+      }
+      if (options.reverseIndexed()) {
+        indexes.add(
+            getIndex(ctx, key, "reverse", "btree", "reverse({0}) text_pattern_ops", key.field()));
+      }
+      if (options.textSearchVector() != null) {
+        indexes.add(getIndex(ctx, key, "fts", "gin", "{0}", options.textSearchVector()));
+      } else if (options.textSearchConfig() != null || key.search()) {
+        indexes.add(
+            getIndex(
+                ctx,
+                key,
+                "fts",
+                "gin",
+                "to_tsvector({0}, {1})",
+                getTextSearchConfig(options),
+                key.field()));
+      }
+    }
+    return indexes;
+  }
+
+  /**
+   * A query over a single table without filters is estimated by {@code pg_class.reltuples}, which
+   * is maintained by {@code vacuum} and {@code analyze}. If the table has never been analyzed or
+   * the query has filters, {@code distinct}, aggregates, {@code limit} or {@code offset}, which
+   * change the number of rows, the estimate is the {@code Plan Rows} of the root node of {@code
+   * explain (format json)}.
+   */
+  @Override
+  public Long estimateCount(final DSLContext ctx, final Select<?> query) {
+    if (isPlainTable(query)) {
+      Long reltuples = getReltuples(ctx, query.$from().getFirst());
+      if (reltuples != null && reltuples >= 0) {
+        return reltuples;
+      }
+    }
+
+    String plan =
+        ctx.fetchOne("explain (format json) " + ctx.renderInlined(query)).get(0, String.class);
+    try {
+      JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+      return rows.isNumber() ? rows.asLong() : null;
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to read the query plan: %s".formatted(plan), e);
+    }
+  }
+
+  /**
+   * Creates the array bind value of the field type. The array is cast to the type without the
+   * length and precision, since they can exceed the limits of the database, for example {@code
+   * numeric(100000)}, and are not needed to compare the values
+   */
+  @SuppressWarnings("unchecked")
+  protected static <T> Field<T[]> toArray(final Field<T> field, final List<T> values) {
+    T[] array = values.toArray((T[]) Array.newInstance(field.getType(), 0));
+    DataType<T> type = field.getDataType();
+    DataType<?> sqlType = type.getSQLDataType();
+    if (sqlType != null && sqlType.getType() == type.getType()) {
+      type = (DataType<T>) sqlType;
+    }
+    return DSL.val(array, type.getArrayDataType());
+  }
+
+  private static <T> Select<Record1<T>> unnest(final Field<T> field, final List<T> values) {
+    return DSL.select(DSL.field("unnest({0})", field.getDataType(), toArray(field, values)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Condition likeAny(
+      final Field<?> field, final List<String> patterns, final boolean ignoreCase) {
+    Field<String> text =
+        field.getType() == String.class ? (Field<String>) field : field.cast(SQLDataType.VARCHAR);
+    Field<String[]> array =
+        DSL.val(patterns.toArray(String[]::new), SQLDataType.VARCHAR.getArrayDataType());
+    return DSL.condition(ignoreCase ? "{0} ilike any({1})" : "{0} like any({1})", text, array);
+  }
+
+  /**
+   * Escapes the wildcards of the value by the default escape character of {@code like}, since
+   * {@code like any} does not support the {@code escape} clause
+   */
+  private static String escapeLike(final Object value, final String prefix, final String suffix) {
+    if (value == null) {
+      return null;
+    }
+
+    String escaped =
+        String.valueOf(value).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    return prefix + escaped + suffix;
+  }
+
+  /**
+   * Returns {@code create index} of the key, the fields of the expression are rendered without the
+   * table, as the index expression requires
+   */
+  private static String getIndex(
+      final DSLContext ctx,
+      final ConfiguredKey key,
+      final String suffix,
+      final String method,
+      final String expression,
+      final QueryPart... parts) {
+    DSLContext unqualified =
+        DSL.using(
+            ctx.configuration()
+                .derive(
+                    VisitListener.onVisitStart(
+                        context -> {
+                          if (context.queryPart() instanceof TableField<?, ?> tableField
+                              && tableField.getTable() != null) {
+                            context.queryPart(DSL.field(DSL.name(tableField.getName())));
+                          }
+                        })));
+
+    String field = key.field() instanceof TableField<?, ?> ? key.field().getName() : key.key();
+    String name = "%s_%s_%s_idx".formatted(key.table().getName(), field, suffix);
+    return "create index if not exists %s on %s using %s (%s)"
+        .formatted(
+            ctx.render(DSL.quotedName(name.toLowerCase())),
+            ctx.render(key.table()),
+            method,
+            unqualified.render(DSL.field(expression, parts)));
+  }
+
+  /** Returns the inlined {@code 'config'::regconfig} of the key */
+  private static Field<Object> getTextSearchConfig(final KeyOptions options) {
+    String config =
+        options.textSearchConfig() != null
+            ? options.textSearchConfig()
+            : DEFAULT_TEXT_SEARCH_CONFIG;
+    return DSL.field("{0}::regconfig", DSL.inline(config));
+  }
+
+  /** Checks whether the query returns all the rows of a single table */
+  private boolean isPlainTable(final Select<?> query) {
+    return query.$where() == null
+        && query.$having() == null
+        && query.$groupBy().isEmpty()
+        && !query.$distinct()
+        && query.$distinctOn().isEmpty()
+        && query.$limit() == null
+        && query.$offset() == null
+        && query.$from().size() == 1
+        && query.$from().getFirst().getTableType().isTable()
+        && query.$select().stream().noneMatch(PostgresMapper::hasAggregate);
+  }
+
+  /**
+   * Checks whether the query part is or contains an aggregate function. The query part is rendered
+   * with a {@link VisitListener}, which is called for each nested query part
+   */
+  private static boolean hasAggregate(final QueryPart part) {
+    boolean[] found = new boolean[1];
+    DSL.using(
+            new DefaultConfiguration()
+                .set(
+                    VisitListener.onVisitStart(
+                        context -> found[0] |= context.queryPart() instanceof AggregateFunction)))
+        .render(part);
+    return found[0];
+  }
+
+  private Long getReltuples(final DSLContext ctx, final Table<?> table) {
+    String name = ctx.render(table.getQualifiedName());
+    return ctx.resultQuery(
+            "select reltuples::bigint from pg_class where oid = to_regclass({0})", DSL.inline(name))
+        .fetchOptional(0, Long.class)
+        .orElse(null);
+  }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.mapper.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The converters of the raw values of the filters to the common scalar types of the fields, used by
+ * {@link AbstractOneQueryMapper#convertValueSafely(Object, Class)} instead of the default {@code
+ * ObjectMapper.convertValue}, which writes each value to a token buffer and reads it back.
+ *
+ * <p>The converters are looked up by the target type and the exact class of the raw value. A
+ * converter only handles the canonical forms of the value, for which it returns the same value as
+ * the default {@code ObjectMapper}, and throws a {@link RuntimeException} otherwise, for example on
+ * an integer overflow, a string with spaces, a sign or an exponent, {@code NaN} or a hexadecimal
+ * number, then the value is converted by the {@code ObjectMapper} as before, so it reports the
+ * error or applies its coercion. The date time types are always converted by the {@code
+ * ObjectMapper}, since their parsing depends on its modules and settings, and so are the strings of
+ * {@link UUID}, which the {@code ObjectMapper} parses faster than {@link UUID#fromString(String)}.
+ *
+ * @version 0.1.0
+ */
+final class ValueConverters {
+  /** The integral types whose values are converted by {@link Number#longValue()} */
+  private static final List<Class<?>> INTEGRAL_TYPES =
+      List.of(Byte.class, Short.class, Integer.class, Long.class);
+
+  /** The converters by the target type and the class of the raw value */
+  private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> CONVERTERS =
+      Map.ofEntries(
+          Map.entry(
+              Integer.class,
+              numeric(
+                  value -> Integer.valueOf(matching(ValueConverters::isInteger, value)),
+                  value -> Math.toIntExact(value.longValue()))),
+          Map.entry(
+              Long.class,
+              numeric(
+                  value -> Long.valueOf(matching(ValueConverters::isInteger, value)),
+                  Number::longValue)),
+          Map.entry(
+              Double.class,
+              numeric(
+                  value -> Double.valueOf(matching(ValueConverters::isDecimal, value)),
+                  value -> (double) value.longValue())),
+          Map.entry(
+              BigInteger.class,
+              numeric(
+                  value -> new BigInteger(matching(ValueConverters::isInteger, value)),
+                  value -> BigInteger.valueOf(value.longValue()))),
+          Map.entry(BigDecimal.class, decimal()),
+          Map.entry(Boolean.class, Map.of(String.class, ValueConverters::parseBoolean)),
+          Map.entry(String.class, string()));
+
+  private ValueConverters() {}
+
+  /**
+   * Returns the converters to the type by the class of the raw value, empty if the type has no
+   * converters
+   */
+  static Map<Class<?>, Function<Object, Object>> forType(final Class<?> type) {
+    return CONVERTERS.getOrDefault(type, Map.of());
+  }
+
+  /* ---------- private methods ------------------------------------------------------------------------------------- */
+
+  private static Map<Class<?>, Function<Object, Object>> numeric(
+      final Function<String, Object> parser, final Function<Number, Object> integral) {
+    Map<Class<?>, Function<Object, Object>> converters = new HashMap<>();
+    converters.put(String.class, value -> parser.apply((String) value));
+    INTEGRAL_TYPES.forEach(type -> converters.put(type, value -> integral.apply((Number) value)));
+    return Map.copyOf(converters);
+  }
+
+  private static Map<Class<?>, Function<Object, Object>> decimal() {
+    Map<Class<?>, Function<Object, Object>> converters =
+        new HashMap<>(
+            numeric(
+                value -> new BigDecimal(matching(ValueConverters::isDecimal, value)),
+                value -> BigDecimal.valueOf(value.longValue())));
+    converters.put(BigInteger.class, value -> new BigDecimal((BigInteger) value));
+    return Map.copyOf(converters);
+  }
+
+  private static Map<Class<?>, Function<Object, Object>> string() {
+    Map<Class<?>, Function<Object, Object>> converters = new HashMap<>();
+    INTEGRAL_TYPES.forEach(type -> converters.put(type, String::valueOf));
+    List.of(BigInteger.class, Boolean.class, Character.class, UUID.class)
+        .forEach(type -> converters.put(type, String::valueOf));
+    return Map.copyOf(converters);
+  }
+
+  /** Only {@code true} and {@code false}, the other forms are left to the {@code ObjectMapper} */
+  private static Object parseBoolean(final Object value) {
+    return switch ((String) value) {
+      case "true" -> Boolean.TRUE;
+      case "false" -> Boolean.FALSE;
+      default -> throw new IllegalArgumentException("Not a boolean: " + value);
+    };
+  }
+
+  /**
+   * Returns the value if it is in the canonical form, other forms go to the {@code ObjectMapper}.
+   * The forms are checked by scanning the characters, a regular expression costs more than the
+   * {@code ObjectMapper} conversion it replaces
+   */
+  private static String matching(final Predicate<String> canonical, final String value) {
+    if (!canonical.test(value)) {
+      throw new IllegalArgumentException("Not a canonical value: " + value);
+    }
+    return value;
+  }
+
+  /** An integer without spaces, a plus sign and leading zeros */
+  private static boolean isInteger(final String value) {
+    return digitsEnd(value, value.startsWith("-") ? 1 : 0) == value.length();
+  }
+
+  /** A decimal number in the plain notation, without an exponent */
+  private static boolean isDecimal(final String value) {
+    int end = digitsEnd(value, value.startsWith("-") ? 1 : 0);
+    if (end == value.length()) {
+      return true;
+    }
+    if (end < 0 || value.charAt(end) != '.' || end + 1 == value.length()) {
+      return false;
+    }
+    for (int i = end + 1; i < value.length(); i++) {
+      if (!isDigit(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index after the digits of the integer part starting at the index, or {@code -1} if
+   * there are no digits or the integer part has a leading zero
+   */
+  private static int digitsEnd(final String value, final int start) {
+    int end = start;
+    while (end < value.length() && isDigit(value.charAt(end))) {
+      end++;
+    }
+    if (end == start || (value.charAt(start) == '0' && end - start > 1)) {
+      return -1;
+    }
+    return end;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+}
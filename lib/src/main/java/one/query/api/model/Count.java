@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * A class that represents the way {@code .paginate()} calculates the total number of elements.
+ *
+ * @version 0.1.0
+ */
+public sealed interface Count
+    permits Count.Exact,
+        Count.Window,
+        Count.Concurrent,
+        Count.Estimated,
+        Count.Capped,
+        Count.TimeBoxed {
+
+  /**
+   * The total number of elements is calculated with a separate {@code select count(*) from (...)}
+   * query before the page query. Used by default.
+   */
+  static Count exact() {
+    return new Exact();
+  }
+
+  /**
+   * The total number of elements is calculated in the page query itself by the {@code count(*)
+   * over()} window column, so pagination takes a single roundtrip. The column is removed from the
+   * records before they are returned. If the requested page is past the end and comes back empty, a
+   * separate count query is executed.
+   *
+   * <p>Queries with {@code distinct} or {@code distinct on} fall back to {@link #exact()}, since
+   * the window is calculated before the duplicates are removed.
+   */
+  static Count window() {
+    return new Window();
+  }
+
+  /**
+   * The count query and the page query are executed in parallel on virtual threads, so the latency
+   * of pagination is the slowest of the two queries instead of their sum.
+   *
+   * @see #concurrent(Executor)
+   */
+  static Count concurrent() {
+    return new Concurrent(Thread::startVirtualThread);
+  }
+
+  /**
+   * The count query and the page query are executed in parallel by the passed {@link Executor}.
+   * Each query takes its own connection from the {@link org.jooq.ConnectionProvider} of the query,
+   * if the query is attached to a single JDBC connection, the queries are executed sequentially.
+   *
+   * <p>Both queries are joined by the terminal methods. If one of them fails, the other one is
+   * cancelled and the error is rethrown, if the waiting thread is interrupted, both are cancelled.
+   */
+  static Count concurrent(final Executor executor) {
+    return new Concurrent(executor);
+  }
+
+  /**
+   * The total number of elements is taken from the planner estimate of the query instead of
+   * counting it. The estimator is provided by the {@link one.query.api.mapper.OneQueryMapper}
+   * registered for the dialect of the query, {@link one.query.api.mapper.impl.PostgresMapper} uses
+   * {@code pg_class.reltuples} for a single table without filters and {@code explain (format json)}
+   * otherwise. If there is no mapper or the mapper cannot estimate the query, the total number of
+   * elements is counted exactly.
+   *
+   * <p>The result is flagged with {@link TotalType#ESTIMATED}.
+   */
+  static Count estimated() {
+    return new Estimated();
+  }
+
+  /**
+   * The total number of elements is counted up to the {@code cap} by {@code select count(*) from
+   * (select 1 from (...) limit cap + 1)}, so the cost of the count query is bounded by the cap and
+   * not by the size of the table. If there are more elements than the cap, the total is the cap and
+   * the result is flagged with {@link TotalType#LOWER_BOUND}, which can be shown as "10 000+".
+   */
+  static Count capped(final long cap) {
+    return new Capped(cap);
+  }
+
+  /**
+   * The total number of elements is counted exactly if the count query finishes within the {@code
+   * budget}, otherwise the statement is cancelled and the total is the planner estimate, as in
+   * {@link #estimated()}. If the query cannot be estimated, the total is unknown. The page rows are
+   * returned in any case, {@link PaginationResult#totalType()} shows which way the total was
+   * obtained: {@link TotalType#EXACT}, {@link TotalType#ESTIMATED} or {@link TotalType#UNKNOWN}.
+   */
+  static Count timeBoxed(final Duration budget) {
+    return new TimeBoxed(budget);
+  }
+
+  /**
+   * @see Count#exact()
+   */
+  record Exact() implements Count {}
+
+  /**
+   * @see Count#window()
+   */
+  record Window() implements Count {}
+
+  /**
+   * @see Count#estimated()
+   */
+  record Estimated() implements Count {}
+
+  /**
+   * @see Count#capped(long)
+   */
+  record Capped(long cap) implements Count {
+    public Capped {
+      if (cap < 1) {
+        throw new IllegalArgumentException(
+            "Count cap must be greater than 0. Passed value: [%s]".formatted(cap));
+      }
+    }
+  }
+
+  /**
+   * @see Count#timeBoxed(Duration)
+   */
+  record TimeBoxed(Duration budget) implements Count {
+    public TimeBoxed {
+      Objects.requireNonNull(budget, "Count budget must not be null");
+      if (budget.isNegative() || budget.isZero()) {
+        throw new IllegalArgumentException(
+            "Count budget must be positive. Passed value: [%s]".formatted(budget));
+      }
+    }
+  }
+
+  /**
+   * @see Count#concurrent(Executor)
+   */
+  record Concurrent(Executor executor) implements Count {
+    public Concurrent {
+      Objects.requireNonNull(executor, "Executor must not be null");
+    }
+  }
+}
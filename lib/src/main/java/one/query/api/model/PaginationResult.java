@@ -20,7 +20,33 @@ import java.util.List;
 /**
  * A class that represents a pagination result.
  *
+ * <p>{@code nextCursor} and {@code previousCursor} are filled only by the keyset pagination and are
+ * {@code null} if there is no next or previous page.
+ *
+ * <p>{@code totalType} shows whether {@code total} is exact or approximate, see {@link TotalType}.
+ * If the total is {@link TotalType#UNKNOWN}, {@code total} is {@code -1}.
+ *
  * @author Artur Perun
- * @version 0.0.1
+ * @version 0.1.0
  */
-public record PaginationResult<T>(List<T> content, long number, long total) {}
+public record PaginationResult<T>(
+    List<T> content,
+    long number,
+    long total,
+    String nextCursor,
+    String previousCursor,
+    TotalType totalType) {
+  public PaginationResult(List<T> content, long number, long total) {
+    this(content, number, total, null, null, TotalType.EXACT);
+  }
+
+  public PaginationResult(
+      List<T> content, long number, long total, String nextCursor, String previousCursor) {
+    this(content, number, total, nextCursor, previousCursor, TotalType.EXACT);
+  }
+
+  /** Returns {@code true} if {@code total} is not an exact number of elements */
+  public boolean approximate() {
+    return totalType != TotalType.EXACT;
+  }
+}
@@ -29,11 +29,13 @@ public enum Prefix {
    * tableField} must be equal to the value passed. The first element in the array will be treated
    * as {@code AND}, all subsequent values will be treated as {@code OR}
    *
-   * <p>Incoming value example: {@code EQ : [1, 2, ...N]}, example heralded value: {@code field = 1
-   * or field = 2 or ... field = N}
+   * <p>Incoming value example: {@code EQ : [1, 2, ...N]}, example heralded value: {@code field in
+   * (1, 2, ... N)}, {@link one.query.api.mapper.impl.PostgresMapper} binds the values as a single
+   * array: {@code field = any(?)}
    *
    * <p><b>Important</b>, the above is relevant to the implementation of getting conditions in
-   * {@link OneQuery}
+   * {@link OneQuery}, the condition is created by {@link
+   * one.query.api.mapper.OneQueryMapper#getEqualsCondition}
    */
   EQ(1, "equals"),
 
@@ -43,10 +45,12 @@ public enum Prefix {
    * treated as {@code AND}, all subsequent values will be treated as {@code AND}
    *
    * <p>Incoming value example: {@code NE : [1, 2, ...N]}, example of a heralded value: {@code field
-   * <> 1 and field <> 2 and ... field <> N}
+   * not in (1, 2, ... N)}, {@link one.query.api.mapper.impl.PostgresMapper} binds the values as a
+   * single array: {@code field <> all(?)}
    *
    * <p><b>Important</b>, the above is relevant to the implementation of getting conditions in
-   * {@link OneQuery}
+   * {@link OneQuery}, the condition is created by {@link
+   * one.query.api.mapper.OneQueryMapper#getNotEqualsCondition}
    */
   NE(2, "not equals"),
 
@@ -119,7 +123,23 @@ public enum Prefix {
    * <p><b>Important</b>, the above is relevant to the implementation of getting conditions in
    * {@link OneQuery}
    */
-  IS_NOT_NULL(8, "is not null");
+  IS_NOT_NULL(8, "is not null"),
+
+  /**
+   * {@code Full text search} represents the match of the text of the field with the search query
+   * passed. Each value is a search query in the web search syntax, all values will be treated as
+   * {@code OR}
+   *
+   * <p>Incoming value example: {@code FTS : ["quick fox", "-dog"]}, example of a heralded value by
+   * {@link one.query.api.mapper.impl.PostgresMapper}: {@code to_tsvector('simple', field) @@
+   * websearch_to_tsquery('simple', 'quick fox') or ...}, or {@code vector @@ ...} if a stored
+   * {@code tsvector} column is configured for the key
+   *
+   * <p><b>Important</b>, the condition is created by {@link
+   * one.query.api.mapper.OneQueryMapper#getFullTextCondition}, the dialects without full text
+   * search throw {@link UnsupportedOperationException}
+   */
+  FTS(9, "full text search");
 
   Prefix(int id, String name) {
     this.id = id;
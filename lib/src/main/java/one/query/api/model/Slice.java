@@ -0,0 +1,26 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.model;
+
+import java.util.List;
+
+/**
+ * A class that represents a page without the total number of elements, {@code hasNext} shows
+ * whether there is at least one element after the page.
+ *
+ * @version 0.1.0
+ */
+public record Slice<T>(List<T> content, long number, boolean hasNext) {}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.model;
+
+/**
+ * Shows how the total number of elements of {@link PaginationResult} was obtained.
+ *
+ * @version 0.1.0
+ */
+public enum TotalType {
+  /** The total number of elements is counted exactly */
+  EXACT,
+
+  /**
+   * The total number of elements is the planner estimate, it can differ from the real number of
+   * elements
+   *
+   * @see Count#estimated()
+   */
+  ESTIMATED,
+
+  /**
+   * The total number of elements exceeded the cap of the count, the real number of elements is
+   * greater than the total
+   *
+   * @see Count#capped(long)
+   */
+  LOWER_BOUND,
+
+  /**
+   * The total number of elements is not known, {@link PaginationResult#total()} is {@code -1}
+   *
+   * @see Count#timeBoxed(java.time.Duration)
+   */
+  UNKNOWN
+}
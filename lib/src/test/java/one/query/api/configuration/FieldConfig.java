@@ -28,6 +28,7 @@ public enum FieldConfig {
   C_ID("CId", CUSTOMERS.CUSTOMERID),
   C_CNAME("CCname", CUSTOMERS.CUSTOMERNAME),
   C_CONTACT_NAME("CContactName", CUSTOMERS.CONTACTNAME),
+  C_COUNTRY("CCountry", CUSTOMERS.COUNTRY),
   P_PRICE("PPrice", PRODUCTS.PRICE),
   P_ID("PId", PRODUCTS.PRODUCTID),
   P_CATEGORY_ID("PCId", PRODUCTS.CATEGORYID),
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.configuration.CountCache;
+import one.query.api.configuration.OneQueryConfiguration;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.records.CategoriesRecord;
+import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import one.query.api.model.Count;
+import one.query.api.model.Page;
+import one.query.api.model.PaginationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryCountCacheTest extends AbstractIsolatedEnvironment {
+  @AfterEach
+  void removeCache() {
+    OneQueryConfiguration.removeCountCache();
+  }
+
+  @Test
+  @DisplayName("Repeated pagination takes the total from the cache")
+  void test1_1() {
+    var cache = new CountCache(Duration.ofMinutes(1), 10);
+    OneQueryConfiguration.registerCountCache(cache);
+
+    var first = paginateProducts(1, 0);
+    var second = paginateProducts(1, 1);
+
+    assertThat(second.total()).isEqualTo(first.total());
+    assertThat(cache.stats()).isEqualTo(new CountCache.Stats(1, 1, 0));
+    assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("Different bind values are cached separately")
+  void test1_2() {
+    var cache = new CountCache(Duration.ofMinutes(1), 10);
+    OneQueryConfiguration.registerCountCache(cache);
+
+    paginateProducts(1, 0);
+    paginateProducts(2, 0);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.stats()).isEqualTo(new CountCache.Stats(0, 2, 0));
+  }
+
+  @Test
+  @DisplayName("Concurrent pagination takes the total from the cache")
+  void test1_3() {
+    var cache = new CountCache(Duration.ofMinutes(1), 10);
+    OneQueryConfiguration.registerCountCache(cache);
+
+    var exact =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .paginate(0, 5)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+    var concurrent =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .paginate(new Page(0, 5), Count.concurrent())
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(concurrent).isEqualTo(exact);
+    assertThat(cache.stats().hits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Expired totals are counted again")
+  void test2_1() throws InterruptedException {
+    var cache = new CountCache(Duration.ofMillis(50), 10);
+    OneQueryConfiguration.registerCountCache(cache);
+
+    paginateProducts(1, 0);
+    Thread.sleep(100);
+    paginateProducts(1, 0);
+
+    assertThat(cache.stats()).isEqualTo(new CountCache.Stats(0, 2, 1));
+  }
+
+  @Test
+  @DisplayName("The least recently used total is evicted when the cache is full")
+  void test2_2() {
+    var cache = new CountCache(Duration.ofMinutes(1), 2);
+    OneQueryConfiguration.registerCountCache(cache);
+
+    paginateProducts(1, 0);
+    paginateProducts(2, 0);
+    paginateProducts(1, 0);
+    paginateProducts(3, 0);
+    paginateProducts(1, 0);
+    paginateProducts(2, 0);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.stats()).isEqualTo(new CountCache.Stats(2, 4, 2));
+  }
+
+  @Test
+  @DisplayName("Try create invalid cache")
+  void test3() {
+    assertThrows(IllegalArgumentException.class, () -> new CountCache(Duration.ZERO, 10));
+    assertThrows(IllegalArgumentException.class, () -> new CountCache(Duration.ofMinutes(1), 0));
+  }
+
+  private PaginationResult<Integer> paginateProducts(final int categoryId, final int page) {
+    return OneQuery.query(ctx.selectFrom(PRODUCTS))
+        .filterBy(PRODUCTS.CATEGORYID.eq(categoryId))
+        .paginate(page, 3)
+        .toPaginationResult(ProductsRecord::getProductid);
+  }
+}
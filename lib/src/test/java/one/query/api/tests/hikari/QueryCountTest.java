@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
+import static one.query.api.jooq.generated.demo_schema.Tables.CUSTOMERS;
+import static one.query.api.jooq.generated.demo_schema.Tables.EMPLOYEES;
+import static one.query.api.jooq.generated.demo_schema.Tables.ORDERDETAILS;
+import static one.query.api.jooq.generated.demo_schema.Tables.ORDERS;
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static one.query.api.jooq.generated.demo_schema.Tables.SHIPPERS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.impl.OneQuery;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Record3;
+import org.jooq.Record4;
+import org.jooq.SelectOnConditionStep;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryCountTest extends AbstractIsolatedEnvironment {
+  private final List<String> executed = new ArrayList<>();
+  private DSLContext listened;
+
+  @BeforeEach
+  void listen() {
+    executed.clear();
+    listened =
+        DSL.using(
+            ctx.configuration()
+                .derive(
+                    new ExecuteListener() {
+                      @Override
+                      public void executeStart(ExecuteContext context) {
+                        executed.add(ctx.renderInlined(context.query()));
+                      }
+                    }));
+  }
+
+  @Test
+  @DisplayName("Count query without order by and select list")
+  void test1_1() {
+    var condition = PRODUCTS.PRICE.gt(BigInteger.valueOf(20));
+    var query = listened.select(PRODUCTS.PRODUCTNAME, PRODUCTS.PRICE).from(PRODUCTS);
+    var res =
+        OneQuery.query(query)
+            .filterBy(condition)
+            .sortBy(PRODUCTS.PRICE.desc())
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+
+    String countSql = executed.getFirst();
+    assertThat(countSql).doesNotContainIgnoringCase("order by");
+    assertThat(countSql).doesNotContainIgnoringCase("productname");
+    assertThat(res.total()).isEqualTo(ctx.fetchCount(PRODUCTS, condition));
+  }
+
+  @Test
+  @DisplayName("Count query is cheaper than the count of the whole query")
+  void test1_2() throws JsonProcessingException {
+    var res =
+        OneQuery.query(getProductsWithCategories(listened))
+            .sortBy(PRODUCTS.PRICE.desc())
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+
+    var whole =
+        ctx.selectCount().from(getProductsWithCategories(ctx).orderBy(PRODUCTS.PRICE.desc()));
+    assertThat(res.total()).isEqualTo(whole.fetchOneInto(Long.class));
+    assertThat(getCost(executed.getFirst())).isLessThan(getCost(ctx.renderInlined(whole)));
+  }
+
+  @Test
+  @DisplayName("Count query keeps distinct")
+  void test2_1() {
+    var res =
+        OneQuery.query(listened.selectDistinct(PRODUCTS.CATEGORYID).from(PRODUCTS))
+            .sortBy(PRODUCTS.CATEGORYID)
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(executed.getFirst()).containsIgnoringCase("distinct");
+  }
+
+  @Test
+  @DisplayName("Count query keeps group by and aggregate functions")
+  void test2_2() {
+    var grouped =
+        OneQuery.query(
+                listened
+                    .select(PRODUCTS.CATEGORYID, DSL.count())
+                    .from(PRODUCTS)
+                    .groupBy(PRODUCTS.CATEGORYID))
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+    var aggregate =
+        OneQuery.query(listened.select(DSL.max(PRODUCTS.PRICE)).from(PRODUCTS))
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+
+    assertThat(grouped.total()).isEqualTo(8);
+    assertThat(aggregate.total()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Count query without unreferenced left joins by primary key")
+  void test3_1() {
+    var res =
+        OneQuery.query(getOrdersWithDisplayColumns(listened))
+            .sortBy(ORDERS.ORDERDATE.desc())
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+
+    String countSql = executed.getFirst();
+    assertThat(res.total()).isEqualTo(196);
+    assertThat(countSql).doesNotContainIgnoringCase("customers");
+    assertThat(countSql).doesNotContainIgnoringCase("shippers");
+    assertThat(countSql).doesNotContainIgnoringCase("employees");
+  }
+
+  @Test
+  @DisplayName("Count query keeps left joins referenced by filters")
+  void test3_2() {
+    var condition = CUSTOMERS.COUNTRY.eq("Germany");
+    var res =
+        OneQuery.query(getOrdersWithDisplayColumns(listened))
+            .filterBy(condition)
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+
+    String countSql = executed.getFirst();
+    assertThat(res.total()).isEqualTo(ctx.fetchCount(ORDERS.join(CUSTOMERS).onKey(), condition));
+    assertThat(countSql).containsIgnoringCase("customers");
+    assertThat(countSql).doesNotContainIgnoringCase("shippers");
+  }
+
+  @Test
+  @DisplayName("Count query keeps left joins that can multiply rows")
+  void test3_3() {
+    var res =
+        OneQuery.query(
+                listened
+                    .select(ORDERS.ORDERID, ORDERDETAILS.QUANTITY)
+                    .from(ORDERS)
+                    .leftJoin(ORDERDETAILS)
+                    .on(ORDERDETAILS.ORDERID.eq(ORDERS.ORDERID)))
+            .paginate(0, 5)
+            .toPaginationResult(record -> record.value1());
+
+    assertThat(res.total()).isEqualTo(ctx.fetchCount(ORDERS.leftJoin(ORDERDETAILS).onKey()));
+    assertThat(executed.getFirst()).containsIgnoringCase("orderdetails");
+  }
+
+  private SelectOnConditionStep<Record4<Integer, String, String, String>>
+      getOrdersWithDisplayColumns(final DSLContext dsl) {
+    return dsl.select(
+            ORDERS.ORDERID, CUSTOMERS.CUSTOMERNAME, SHIPPERS.SHIPPERNAME, EMPLOYEES.LASTNAME)
+        .from(ORDERS)
+        .leftJoin(CUSTOMERS)
+        .on(CUSTOMERS.CUSTOMERID.eq(ORDERS.CUSTOMERID))
+        .leftJoin(SHIPPERS)
+        .on(SHIPPERS.SHIPPERID.eq(ORDERS.SHIPPERID))
+        .leftJoin(EMPLOYEES)
+        .on(EMPLOYEES.EMPLOYEEID.eq(ORDERS.EMPLOYEEID));
+  }
+
+  private SelectOnConditionStep<Record3<String, BigInteger, String>> getProductsWithCategories(
+      final DSLContext dsl) {
+    return dsl.select(PRODUCTS.PRODUCTNAME, PRODUCTS.PRICE, CATEGORIES.CATEGORYNAME)
+        .from(PRODUCTS)
+        .join(CATEGORIES)
+        .on(CATEGORIES.CATEGORYID.eq(PRODUCTS.CATEGORYID));
+  }
+
+  private double getCost(final String sql) throws JsonProcessingException {
+    String plan = ctx.fetchOne("explain (format json) " + sql).get(0, String.class);
+    return new ObjectMapper().readTree(plan).path(0).path("Plan").path("Total Cost").asDouble();
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.pojos.Products;
+import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import one.query.api.model.Count;
+import one.query.api.model.Filter;
+import one.query.api.model.Page;
+import one.query.api.model.Prefix;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryFilterNormalizeTest extends AbstractIsolatedEnvironment {
+  private final List<Query> executed = new ArrayList<>();
+  private DSLContext listened;
+
+  @BeforeEach
+  void listen() {
+    executed.clear();
+    listened =
+        DSL.using(
+            ctx.configuration()
+                .derive(
+                    new ExecuteListener() {
+                      @Override
+                      public void executeStart(ExecuteContext context) {
+                        executed.add(context.query());
+                      }
+                    }));
+  }
+
+  @Test
+  @DisplayName("EQ and NE of the same value do not execute any query")
+  void test1_1() {
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(5)),
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.NE, List.of(5)))
+            .paginate(0, 10)
+            .toPaginationResult(Products.class);
+
+    assertThat(res.content()).isEmpty();
+    assertThat(res.total()).isZero();
+    assertThat(executed).isEmpty();
+  }
+
+  @Test
+  @DisplayName("BW with from greater than to does not execute any query")
+  void test1_2() {
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, List.of(10, 1)))
+            .paginate(new Page(0, 10), Count.window())
+            .toPaginationResult(ProductsRecord::getProductid);
+
+    assertThat(res.content()).isEmpty();
+    assertThat(res.total()).isZero();
+    assertThat(executed).isEmpty();
+  }
+
+  @Test
+  @DisplayName("EQ lists without common values do not execute any query")
+  void test1_3() {
+    var step =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(1, 2)),
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(3, 4)));
+
+    assertThat(step.fetch()).isEmpty();
+    assertThat(step.toList(ProductsRecord::getProductid)).isEmpty();
+    assertThat(executed).isEmpty();
+  }
+
+  @Test
+  @DisplayName("IS_NULL with IS_NOT_NULL or a comparison does not execute any query")
+  void test1_4() {
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(
+                new Filter<>(PRODUCTS.PRICE, Prefix.IS_NULL, List.of()),
+                new Filter<>(PRODUCTS.PRICE, Prefix.NE, List.of(BigInteger.ONE)))
+            .slice(0, 10)
+            .toSliceResult(ProductsRecord::getProductid);
+
+    assertThat(res.content()).isEmpty();
+    assertThat(res.hasNext()).isFalse();
+    assertThat(executed).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Filters of the same field are merged into one condition")
+  void test2_1() {
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(1, 2, 3, 3)),
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(2, 3, 4)),
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.NE, List.of(3)),
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, List.of(0, 10)))
+            .paginate(0, 10)
+            .toPaginationResult(ProductsRecord::getProductid);
+
+    assertThat(res.content()).containsExactly(2);
+    assertThat(res.total()).isEqualTo(1);
+    assertThat(executed.getLast().getSQL()).doesNotContainIgnoringCase("between");
+  }
+
+  @Test
+  @DisplayName("Overlapping BW ranges are coalesced")
+  void test2_2() {
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, List.of(1, 5, 3, 8, 20, 21)))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .toList(ProductsRecord::getProductid);
+
+    assertThat(res).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 20, 21);
+    assertThat(executed.getFirst().getSQL().split("between")).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("BW filters of the same field are intersected")
+  void test2_3() {
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, List.of(1, 10)),
+                new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, List.of(5, 20)))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .toList(ProductsRecord::getProductid);
+
+    assertThat(res).containsExactly(5, 6, 7, 8, 9, 10);
+  }
+
+  @Test
+  @DisplayName("Floating point bounds of -0.0 and 0.0 are not merged")
+  void test2_4() {
+    var zero = PRODUCTS.PRODUCTID.mul(0).cast(Double.class);
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(
+                new Filter<>(zero, Prefix.BW, List.of(-0.0, -0.0)),
+                new Filter<>(zero, Prefix.BW, List.of(0.0, 0.0)),
+                new Filter<>(zero, Prefix.EQ, List.of(-0.0)),
+                new Filter<>(zero, Prefix.EQ, List.of(0.0)))
+            .toList(ProductsRecord::getProductid);
+
+    assertThat(executed).isNotEmpty();
+    assertThat(res).hasSize(77);
+  }
+
+  @Test
+  @DisplayName("Invalid filters keep the validation")
+  void test3() {
+    var filter = new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, List.of(1, 2, 3));
+
+    assertThatThrownBy(() -> OneQuery.query(listened.selectFrom(PRODUCTS)).filter(filter))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
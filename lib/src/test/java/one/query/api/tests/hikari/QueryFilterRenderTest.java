@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.configuration.FieldConfig;
+import one.query.api.configuration.OneQueryConfiguration;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import one.query.api.mapper.impl.PostgresMapper;
+import one.query.api.model.Filter;
+import one.query.api.model.Prefix;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryFilterRenderTest extends AbstractIsolatedEnvironment {
+  private final List<Query> executed = new ArrayList<>();
+  private DSLContext listened;
+
+  @BeforeEach
+  void listen() {
+    executed.clear();
+    listened =
+        DSL.using(
+            ctx.configuration()
+                .derive(
+                    new ExecuteListener() {
+                      @Override
+                      public void executeStart(ExecuteContext context) {
+                        executed.add(context.query());
+                      }
+                    }));
+  }
+
+  @Test
+  @DisplayName("EQ with many values is bound as a single array")
+  void test1_1() {
+    var ids = IntStream.rangeClosed(1, 1000).boxed().toList();
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, ids))
+            .toList(ProductsRecord::getProductid);
+
+    assertThat(res).hasSize(77);
+    assertThat(executed.getFirst().getBindValues()).hasSize(1);
+    assertThat(executed.getFirst().getSQL()).containsIgnoringCase("any");
+  }
+
+  @Test
+  @DisplayName("NE with many values is bound as a single array")
+  void test1_2() {
+    var res =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.NE, List.of(1, 2, 3)))
+            .toList(ProductsRecord::getProductid);
+
+    assertThat(res).hasSize(74).doesNotContain(1, 2, 3);
+    assertThat(executed.getFirst().getBindValues()).hasSize(1);
+    assertThat(executed.getFirst().getSQL()).containsIgnoringCase("all");
+  }
+
+  @Test
+  @DisplayName("EQ statement text does not depend on the number of values")
+  void test1_3() {
+    OneQuery.query(listened.selectFrom(PRODUCTS))
+        .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(1)))
+        .fetch();
+    OneQuery.query(listened.selectFrom(PRODUCTS))
+        .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(1, 2, 3)))
+        .fetch();
+
+    assertThat(executed.get(0).getSQL()).isEqualTo(executed.get(1).getSQL());
+  }
+
+  @Test
+  @DisplayName("EQ and NE without a mapper use in list")
+  void test2() {
+    OneQueryConfiguration.removeMapper(SQLDialect.POSTGRES);
+    try {
+      var equal =
+          OneQuery.query(listened.selectFrom(PRODUCTS))
+              .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(1, 2, 3)))
+              .toList(ProductsRecord::getProductid);
+      var notEqual =
+          OneQuery.query(listened.selectFrom(PRODUCTS))
+              .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.NE, List.of(1, 2, 3)))
+              .toList(ProductsRecord::getProductid);
+
+      assertThat(equal).containsExactlyInAnyOrder(1, 2, 3);
+      assertThat(notEqual).hasSize(74);
+      assertThat(executed.getFirst().getBindValues()).hasSize(3);
+    } finally {
+      mapper.register();
+    }
+  }
+
+  @Test
+  @DisplayName("Stable shape returns the same rows for all prefixes")
+  void test3_1() {
+    var filters =
+        List.<Filter<?>>of(
+            new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, List.of(1, 5, 10, 20)),
+            new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.SW, List.of("Ch", "G")),
+            new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.EW, List.of("s", "e")),
+            new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.LIKE, List.of("an", "OU")));
+
+    for (Filter<?> filter : filters) {
+      var expected = fetchIds(filter);
+      withStableShape(() -> assertThat(fetchIds(filter)).isEqualTo(expected));
+    }
+  }
+
+  @Test
+  @DisplayName("Stable shape escapes the wildcards of SW and EW")
+  void test3_2() {
+    var startsWith = new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.SW, List.of("_"));
+    var endsWith = new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.EW, List.of("%"));
+
+    withStableShape(
+        () -> {
+          assertThat(fetchIds(startsWith)).isEmpty();
+          assertThat(fetchIds(endsWith)).isEmpty();
+        });
+  }
+
+  /**
+   * Counts the statement texts that a prepared statement cache would reuse, it does not measure
+   * time. The same random filter requests are rendered with and without the stable shape, every
+   * statement text seen before is a cache hit
+   */
+  @Test
+  @DisplayName("Stable shape reuses the statement text of the same keys and prefixes")
+  void test4() {
+    var requests = getRandomRequests(new Random(42), 200);
+    double defaultHitRate = getHitRate(requests);
+    double[] stableHitRate = new double[1];
+    withStableShape(() -> stableHitRate[0] = getHitRate(requests));
+
+    assertThat(stableHitRate[0]).isGreaterThan(0.95);
+    assertThat(defaultHitRate).isLessThan(stableHitRate[0]);
+  }
+
+  @Test
+  @DisplayName("EQ and NE above the threshold are semi-joined as unnest of a single array")
+  void test5_1() {
+    var ids = IntStream.rangeClosed(1, 1004).boxed().toList();
+    var equal =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, ids))
+            .toList(ProductsRecord::getProductid);
+    var notEqual =
+        OneQuery.query(listened.selectFrom(PRODUCTS))
+            .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.NE, ids.subList(3, ids.size())))
+            .toList(ProductsRecord::getProductid);
+
+    assertThat(equal).hasSize(77);
+    assertThat(notEqual).containsExactlyInAnyOrder(1, 2, 3);
+    assertThat(executed).allSatisfy(query -> assertThat(query.getBindValues()).hasSize(1));
+    assertThat(executed).allSatisfy(query -> assertThat(query.getSQL()).contains("unnest"));
+  }
+
+  @Test
+  @DisplayName("EQ and NE above the threshold without a mapper use a values table")
+  void test5_2() {
+    var ids = IntStream.rangeClosed(1, 50_000).boxed().toList();
+    OneQueryConfiguration.removeMapper(SQLDialect.POSTGRES);
+    try {
+      var equal =
+          OneQuery.query(listened.selectFrom(PRODUCTS))
+              .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, ids))
+              .toList(ProductsRecord::getProductid);
+      var notEqual =
+          OneQuery.query(listened.selectFrom(PRODUCTS))
+              .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.NE, ids.subList(3, ids.size())))
+              .toList(ProductsRecord::getProductid);
+
+      assertThat(equal).hasSize(77);
+      assertThat(notEqual).containsExactlyInAnyOrder(1, 2, 3);
+      assertThat(executed).allSatisfy(query -> assertThat(query.getBindValues()).isEmpty());
+      assertThat(executed).allSatisfy(query -> assertThat(query.getSQL()).contains("values"));
+    } finally {
+      mapper.register();
+    }
+  }
+
+  @Test
+  @DisplayName("Configured threshold of the values")
+  void test5_3() {
+    OneQueryConfiguration.setLargeValuesThreshold(2);
+    try {
+      var res =
+          OneQuery.query(listened.selectFrom(PRODUCTS))
+              .filter(new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, List.of(1, 2, 3)))
+              .toList(ProductsRecord::getProductid);
+
+      assertThat(res).containsExactlyInAnyOrder(1, 2, 3);
+      assertThat(executed.getFirst().getSQL()).contains("unnest");
+    } finally {
+      OneQueryConfiguration.setLargeValuesThreshold(1000);
+    }
+    assertThatThrownBy(() -> OneQueryConfiguration.setLargeValuesThreshold(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<Integer> fetchIds(final Filter<?> filter) {
+    return OneQuery.query(listened.selectFrom(PRODUCTS))
+        .filter(filter)
+        .sortBy(PRODUCTS.PRODUCTID)
+        .toList(ProductsRecord::getProductid);
+  }
+
+  private void withStableShape(final Runnable runnable) {
+    new PostgresMapper(FieldConfig.collectMap()).stableShape(true).register();
+    try {
+      runnable.run();
+    } finally {
+      mapper.register();
+    }
+  }
+
+  private double getHitRate(final List<Filter<?>> requests) {
+    executed.clear();
+    requests.forEach(this::fetchIds);
+    long distinct = executed.stream().map(Query::getSQL).distinct().count();
+    return 1 - (double) distinct / executed.size();
+  }
+
+  private List<Filter<?>> getRandomRequests(final Random random, final int size) {
+    List<Filter<?>> requests = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      int count = 1 + random.nextInt(10);
+      List<Integer> ids = random.ints(count * 2L, 1, 78).boxed().sorted().toList();
+      List<String> names = ids.stream().limit(count).map(id -> "n" + id).toList();
+      requests.add(
+          switch (i % 5) {
+            case 0 -> new Filter<>(PRODUCTS.PRODUCTID, Prefix.EQ, ids.subList(0, count));
+            case 1 -> new Filter<>(PRODUCTS.PRODUCTID, Prefix.BW, ids);
+            case 2 -> new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.SW, names);
+            case 3 -> new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.EW, names);
+            default -> new Filter<>(PRODUCTS.PRODUCTNAME, Prefix.LIKE, names);
+          });
+    }
+    return requests;
+  }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.configuration.FieldConfig.C_CNAME;
+import static one.query.api.configuration.FieldConfig.C_CONTACT_NAME;
+import static one.query.api.configuration.FieldConfig.C_COUNTRY;
+import static one.query.api.jooq.generated.demo_schema.Tables.CUSTOMERS;
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.configuration.FieldConfig;
+import one.query.api.configuration.OneQueryConfiguration;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.records.CustomersRecord;
+import one.query.api.mapper.Conditions;
+import one.query.api.mapper.KeyOptions;
+import one.query.api.mapper.SortPolicy;
+import one.query.api.mapper.impl.PostgresMapper;
+import one.query.api.model.Filter;
+import one.query.api.model.Prefix;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryKeyOptionsTest extends AbstractIsolatedEnvironment {
+  private final List<Query> executed = new ArrayList<>();
+  private DSLContext listened;
+  private PostgresMapper configured;
+
+  @BeforeEach
+  void listen() {
+    executed.clear();
+    listened =
+        DSL.using(
+            ctx.configuration()
+                .derive(
+                    new ExecuteListener() {
+                      @Override
+                      public void executeStart(ExecuteContext context) {
+                        executed.add(context.query());
+                      }
+                    }));
+    configured = new PostgresMapper(FieldConfig.collectMap());
+  }
+
+  @AfterEach
+  void restore() {
+    mapper.register();
+  }
+
+  @Test
+  @DisplayName("SW range returns the same rows as like")
+  void test1_1() {
+    var prefixes = List.of("A", "Al", "La ", "z", "");
+    var expected = prefixes.stream().map(this::fetchStartsWith).toList();
+
+    configured.configureKey(C_CNAME.getKey(), KeyOptions.DEFAULT.withStartsWithRange(true));
+    configured.register();
+    executed.clear();
+    var actual = prefixes.stream().map(this::fetchStartsWith).toList();
+
+    assertThat(actual).isEqualTo(expected);
+    assertThat(executed.getFirst().getSQL()).contains(">=").contains("collate \"C\"");
+  }
+
+  @Test
+  @DisplayName("SW range with several values")
+  void test1_2() {
+    configured
+        .configureKey(C_CNAME.getKey(), KeyOptions.DEFAULT.withStartsWithRange(true))
+        .register();
+
+    var res =
+        OneQuery.query(listened.selectFrom(CUSTOMERS))
+            .filter(mapper.createFilter(C_CNAME.getKey(), Prefix.SW, "Alfreds", "Ana"))
+            .toList(CustomersRecord::getCustomername);
+
+    assertThat(res).allMatch(name -> name.startsWith("Alfreds") || name.startsWith("Ana"));
+    assertThat(res).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("Successor of the prefix")
+  void test1_3() {
+    assertThat(Conditions.successor("ab")).isEqualTo("ac");
+    assertThat(Conditions.successor("a" + Character.toString(Character.MAX_CODE_POINT)))
+        .isEqualTo("b");
+    assertThat(Conditions.successor("a\uD7FF")).isEqualTo("a\uE000");
+    assertThat(Conditions.successor("")).isNull();
+  }
+
+  @Test
+  @DisplayName("Not configured key keeps like")
+  void test1_4() {
+    configured.register();
+    fetchStartsWith("A");
+
+    assertThat(executed.getFirst().getSQL()).contains("like");
+    assertThatThrownBy(() -> configured.configureKey("unknown", KeyOptions.DEFAULT))
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  @DisplayName("Reverse indexed EW returns the same rows as like")
+  void test2_1() {
+    var suffixes = List.of("a", "ta", "es", "x", "");
+    var expected = suffixes.stream().map(this::fetchEndsWith).toList();
+
+    configured
+        .configureKey(C_CNAME.getKey(), KeyOptions.DEFAULT.withReverseIndexed(true))
+        .register();
+    executed.clear();
+    var actual = suffixes.stream().map(this::fetchEndsWith).toList();
+
+    assertThat(actual).isEqualTo(expected);
+    assertThat(executed.getFirst().getSQL()).contains("reverse(");
+    assertThat(Conditions.reverse("a\uD83D\uDE00b")).isEqualTo("b\uD83D\uDE00a");
+  }
+
+  @Test
+  @DisplayName("Expected indexes of the configured keys")
+  void test2_2() {
+    configured
+        .configureKey(C_CNAME.getKey(), KeyOptions.DEFAULT.withReverseIndexed(true))
+        .configureKey(C_CONTACT_NAME.getKey(), KeyOptions.DEFAULT.withStartsWithRange(true));
+    var indexes = configured.expectedIndexes(ctx);
+
+    assertThat(indexes).hasSize(2);
+    assertThat(indexes).anyMatch(index -> index.contains("reverse(\"customername\")"));
+    assertThat(indexes).anyMatch(index -> index.contains("\"contactname\" collate \"C\""));
+    assertThat(mapper.expectedIndexes(ctx)).isEmpty();
+    indexes.forEach(ctx::execute);
+  }
+
+  @Test
+  @DisplayName("FTS matches the words of the field")
+  void test3_1() {
+    configured
+        .configureKey(C_CONTACT_NAME.getKey(), KeyOptions.DEFAULT.withTextSearchConfig("simple"))
+        .register();
+
+    var res = fetchFullText("Maria");
+
+    assertThat(res).isNotEmpty().isEqualTo(fetchContactNamesWithWord("maria"));
+    assertThat(executed.getFirst().getSQL())
+        .contains("to_tsvector('simple'::regconfig")
+        .contains("websearch_to_tsquery");
+    configured.expectedIndexes(ctx).forEach(ctx::execute);
+  }
+
+  @Test
+  @DisplayName("FTS matches the stored tsvector column")
+  void test3_2() {
+    ctx.execute(
+        "alter table demo_schema.customers add column if not exists contact_tsv tsvector "
+            + "generated always as (to_tsvector('simple', contactname)) stored");
+    var vector = DSL.field(DSL.name("contact_tsv"));
+    configured
+        .configureKey(C_CONTACT_NAME.getKey(), KeyOptions.DEFAULT.withTextSearchVector(vector))
+        .register();
+
+    var res = fetchFullText("Maria");
+
+    assertThat(res).isEqualTo(fetchContactNamesWithWord("maria"));
+    assertThat(executed.getFirst().getSQL()).contains("contact_tsv");
+    assertThat(configured.expectedIndexes(ctx)).singleElement().asString().contains("using gin");
+  }
+
+  @Test
+  @DisplayName("FTS without a mapper is not supported")
+  void test3_3() {
+    OneQueryConfiguration.removeMapper(SQLDialect.POSTGRES);
+    var filter = new Filter<>(CUSTOMERS.CONTACTNAME, Prefix.FTS, List.of("Maria"));
+
+    assertThatThrownBy(() -> OneQuery.query(ctx.selectFrom(CUSTOMERS)).filter(filter))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @DisplayName("Search key matches LIKE against all its fields at once")
+  void test4_1() {
+    configured
+        .registerSearchKey(
+            "q", CUSTOMERS.CUSTOMERNAME, CUSTOMERS.CONTACTNAME, CUSTOMERS.CITY, CUSTOMERS.COUNTRY)
+        .register();
+
+    var res =
+        OneQuery.query(listened.selectFrom(CUSTOMERS))
+            .filter(configured.createFilter("q", Prefix.LIKE, "berlin"))
+            .sortBy(CUSTOMERS.CUSTOMERID)
+            .toList(CustomersRecord::getCustomerid);
+    var expected =
+        ctx.selectFrom(CUSTOMERS)
+            .where(
+                CUSTOMERS
+                    .CUSTOMERNAME
+                    .containsIgnoreCase("berlin")
+                    .or(CUSTOMERS.CONTACTNAME.containsIgnoreCase("berlin"))
+                    .or(CUSTOMERS.CITY.containsIgnoreCase("berlin"))
+                    .or(CUSTOMERS.COUNTRY.containsIgnoreCase("berlin")))
+            .orderBy(CUSTOMERS.CUSTOMERID)
+            .fetch(CUSTOMERS.CUSTOMERID);
+
+    assertThat(res).isNotEmpty().isEqualTo(expected);
+    assertThat(executed.getFirst().getSQL()).containsOnlyOnce("ilike");
+  }
+
+  @Test
+  @DisplayName("Search key matches FTS and has an expected index")
+  void test4_2() {
+    configured.registerSearchKey("q", CUSTOMERS.CONTACTNAME, CUSTOMERS.CITY).register();
+
+    var res =
+        OneQuery.query(listened.selectFrom(CUSTOMERS))
+            .filter(configured.createFilter("q", Prefix.FTS, "Maria"))
+            .sortBy(CUSTOMERS.CUSTOMERID)
+            .toList(CustomersRecord::getContactname);
+
+    assertThat(res).isEqualTo(fetchContactNamesWithWord("maria"));
+    assertThat(configured.existsKey("q")).isTrue();
+    var indexes = configured.expectedIndexes(ctx);
+    assertThat(indexes).singleElement().asString().contains("customers_q_fts_idx");
+    indexes.forEach(ctx::execute);
+  }
+
+  @Test
+  @DisplayName("Search key validation")
+  void test4_3() {
+    assertThatThrownBy(() -> configured.registerSearchKey("q"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> configured.registerSearchKey(C_CNAME.getKey(), CUSTOMERS.CITY))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> configured.registerSearchKey("q", CUSTOMERS.CITY, PRODUCTS.PRODUCTNAME))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Inline values of the configured key are rendered as literals")
+  void test5_1() {
+    var expected = fetchCountries("Germany", "France");
+    assertThat(executed.getFirst().getBindValues()).isNotEmpty();
+
+    configured
+        .configureKey(C_COUNTRY.getKey(), KeyOptions.DEFAULT.withInlineValues(true))
+        .register();
+    executed.clear();
+    var res = fetchCountries("Germany", "France");
+
+    assertThat(res).isNotEmpty().isEqualTo(expected);
+    assertThat(executed.getFirst().getBindValues()).isEmpty();
+    assertThat(executed.getFirst().getSQL()).contains("'Germany'").contains("'France'");
+  }
+
+  @Test
+  @DisplayName("Inline values do not affect the other keys")
+  void test5_2() {
+    configured
+        .configureKey(C_COUNTRY.getKey(), KeyOptions.DEFAULT.withInlineValues(true))
+        .register();
+
+    OneQuery.query(listened.selectFrom(CUSTOMERS))
+        .filter(
+            configured.createFilter(C_COUNTRY.getKey(), Prefix.EQ, "Germany"),
+            configured.createFilter(C_CNAME.getKey(), Prefix.SW, "A"))
+        .fetch();
+
+    assertThat(executed.getFirst().getSQL()).contains("'Germany'");
+    assertThat(executed.getFirst().getBindValues()).contains("A").doesNotContain("Germany");
+  }
+
+  @Test
+  @DisplayName("Sort of the key with WITH_FILTER policy requires a filter")
+  void test6_1() {
+    configured
+        .configureKey(C_COUNTRY.getKey(), KeyOptions.DEFAULT.withSortPolicy(SortPolicy.WITH_FILTER))
+        .register();
+    var sort = configured.createSort("-" + C_COUNTRY.getKey());
+
+    assertThatThrownBy(() -> OneQuery.query(listened.selectFrom(CUSTOMERS)).sort(sort))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    var res =
+        OneQuery.query(listened.selectFrom(CUSTOMERS))
+            .filter(configured.createFilter(C_CNAME.getKey(), Prefix.SW, "A"))
+            .sort(sort)
+            .toList(CustomersRecord::getCountry);
+    assertThat(res).isNotEmpty().isSortedAccordingTo(Comparator.reverseOrder());
+  }
+
+  @Test
+  @DisplayName("Sort of the key with REWRITE policy uses the sort expression")
+  void test6_2() {
+    var expression = DSL.lower(CUSTOMERS.CUSTOMERNAME);
+    configured
+        .configureKey(C_CNAME.getKey(), KeyOptions.DEFAULT.withSortExpression(expression))
+        .register();
+
+    var res =
+        OneQuery.query(listened.selectFrom(CUSTOMERS))
+            .sort(configured.createSort(C_CNAME.getKey()))
+            .toList(CustomersRecord::getCustomername);
+
+    var expected = ctx.selectFrom(CUSTOMERS).orderBy(expression).fetch(CUSTOMERS.CUSTOMERNAME);
+    assertThat(res).isEqualTo(expected);
+    assertThat(executed.getFirst().getSQL()).contains("order by lower(");
+    assertThatThrownBy(() -> KeyOptions.DEFAULT.withSortPolicy(SortPolicy.REWRITE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Null ordering of the key is aligned with the ascending index")
+  void test6_3() {
+    configured
+        .configureKey(C_CONTACT_NAME.getKey(), KeyOptions.DEFAULT.withNullsFirst(true))
+        .register();
+
+    OneQuery.query(listened.selectFrom(CUSTOMERS))
+        .sort(configured.createSort(C_CONTACT_NAME.getKey()))
+        .fetch();
+    OneQuery.query(listened.selectFrom(CUSTOMERS))
+        .sort(configured.createSort("-" + C_CONTACT_NAME.getKey()))
+        .fetch();
+
+    assertThat(executed.get(0).getSQL()).contains("asc nulls first");
+    assertThat(executed.get(1).getSQL()).contains("desc nulls last");
+  }
+
+  @Test
+  @DisplayName("Keys of the same field must have the same options")
+  void test6_4() {
+    var aliased = new PostgresMapper(Map.of("country", CUSTOMERS.COUNTRY, "c", CUSTOMERS.COUNTRY));
+    var options = KeyOptions.DEFAULT.withInlineValues(true);
+
+    aliased.configureKey("country", options).configureKey("c", options);
+    assertThat(aliased.getKeyOptions(CUSTOMERS.COUNTRY)).isEqualTo(options);
+
+    assertThatThrownBy(() -> aliased.configureKey("c", KeyOptions.DEFAULT.withNullsFirst(true)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(aliased.getKeyOptions(CUSTOMERS.COUNTRY)).isEqualTo(options);
+  }
+
+  private List<Integer> fetchCountries(final String... countries) {
+    return OneQuery.query(listened.selectFrom(CUSTOMERS))
+        .filter(configured.createFilter(C_COUNTRY.getKey(), Prefix.EQ, List.of(countries)))
+        .sortBy(CUSTOMERS.CUSTOMERID)
+        .toList(CustomersRecord::getCustomerid);
+  }
+
+  private List<String> fetchFullText(final String query) {
+    return OneQuery.query(listened.selectFrom(CUSTOMERS))
+        .filter(new Filter<>(CUSTOMERS.CONTACTNAME, Prefix.FTS, List.of(query)))
+        .sortBy(CUSTOMERS.CUSTOMERID)
+        .toList(CustomersRecord::getContactname);
+  }
+
+  private List<String> fetchContactNamesWithWord(final String word) {
+    return ctx
+        .selectFrom(CUSTOMERS)
+        .orderBy(CUSTOMERS.CUSTOMERID)
+        .fetch(CUSTOMERS.CONTACTNAME)
+        .stream()
+        .filter(name -> Arrays.asList(name.toLowerCase().split("[\\s.'-]+")).contains(word))
+        .toList();
+  }
+
+  private List<String> fetchEndsWith(final String suffix) {
+    return OneQuery.query(listened.selectFrom(CUSTOMERS))
+        .filter(new Filter<>(CUSTOMERS.CUSTOMERNAME, Prefix.EW, List.of(suffix)))
+        .sortBy(CUSTOMERS.CUSTOMERID)
+        .toList(CustomersRecord::getCustomername);
+  }
+
+  private List<String> fetchStartsWith(final String prefix) {
+    return OneQuery.query(listened.selectFrom(CUSTOMERS))
+        .filter(new Filter<>(CUSTOMERS.CUSTOMERNAME, Prefix.SW, List.of(prefix)))
+        .sortBy(CUSTOMERS.CUSTOMERID)
+        .toList(CustomersRecord::getCustomername);
+  }
+}
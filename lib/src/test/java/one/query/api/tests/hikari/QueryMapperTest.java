@@ -19,13 +19,27 @@ import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Supplier;
 import one.query.api.AbstractIsolatedEnvironment;
 import one.query.api.configuration.FieldConfig;
 import one.query.api.impl.OneQuery;
 import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import one.query.api.mapper.impl.PostgresMapper;
 import one.query.api.model.Prefix;
 import org.jooq.SortOrder;
 import org.junit.jupiter.api.DisplayName;
@@ -143,6 +157,77 @@ class QueryMapperTest extends AbstractIsolatedEnvironment {
         () -> mapper.convertValueSafely(rawValue, BigInteger.class));
   }
 
+  @Test
+  @DisplayName("Converters of common types return the same values as ObjectMapper")
+  void test4_4() {
+    var objectMapper = new ObjectMapper();
+    var values =
+        List.<Map.Entry<Object, Class<?>>>of(
+            Map.entry("42", Integer.class),
+            Map.entry((short) 7, Integer.class),
+            Map.entry(Long.MAX_VALUE, Integer.class),
+            Map.entry(" 42", Integer.class),
+            Map.entry("+42", Integer.class),
+            Map.entry("007", Integer.class),
+            Map.entry(42, Long.class),
+            Map.entry("-9000000000", Long.class),
+            Map.entry(42, Double.class),
+            Map.entry("1.5", Double.class),
+            Map.entry("NaN", Double.class),
+            Map.entry("Infinity", Double.class),
+            Map.entry("0x1p3", Double.class),
+            Map.entry("1.5d", Double.class),
+            Map.entry("1.5f", Double.class),
+            Map.entry("1e3", Double.class),
+            Map.entry(".5", Double.class),
+            Map.entry("123456789012345678901234567890", BigInteger.class),
+            Map.entry(42L, BigInteger.class),
+            Map.entry("10.50", BigDecimal.class),
+            Map.entry("1E+3", BigDecimal.class),
+            Map.entry(42, BigDecimal.class),
+            Map.entry(BigInteger.TEN, BigDecimal.class),
+            Map.entry("true", Boolean.class),
+            Map.entry("TRUE", Boolean.class),
+            Map.entry(42, String.class),
+            Map.entry(true, String.class),
+            Map.entry("123e4567-e89b-12d3-a456-426614174000", UUID.class),
+            Map.entry("1-2-3-4-5", UUID.class),
+            Map.entry("2025-01-02", LocalDate.class),
+            Map.entry("03:04:05", LocalTime.class),
+            Map.entry("2025-01-02T03:04:05", LocalDateTime.class),
+            Map.entry("2025-01-02T03:04:05+03:00", OffsetDateTime.class),
+            Map.entry("2025-01-02T03:04:05Z", Instant.class));
+
+    for (var value : values) {
+      assertThat(convert(() -> mapper.convertValueSafely(value.getKey(), value.getValue())))
+          .as("%s to %s", value.getKey(), value.getValue().getSimpleName())
+          .isEqualTo(convert(() -> objectMapper.convertValue(value.getKey(), value.getValue())));
+    }
+  }
+
+  @Test
+  @DisplayName("Passed ObjectMapper converts all the values with its coercion settings")
+  void test4_5() {
+    var objectMapper = new ObjectMapper();
+    objectMapper
+        .coercionConfigFor(LogicalType.Integer)
+        .setCoercion(CoercionInputShape.String, CoercionAction.Fail);
+    var strictMapper = new PostgresMapper(objectMapper, Map.of());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> strictMapper.convertValueSafely("42", Integer.class));
+    assertThat(mapper.convertValueSafely("42", Integer.class)).isEqualTo(42);
+  }
+
+  /** Returns the converted value or the class of the thrown exception */
+  private static Object convert(final Supplier<Object> converter) {
+    try {
+      return converter.get();
+    } catch (RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
   @Test
   @DisplayName("Create Sort by key with direction")
   void test5_1() {
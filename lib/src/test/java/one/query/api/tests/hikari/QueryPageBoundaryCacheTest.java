@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.configuration.OneQueryConfiguration;
+import one.query.api.configuration.PageBoundaryCache;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import one.query.api.model.PaginationResult;
+import org.jooq.Record2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryPageBoundaryCacheTest extends AbstractIsolatedEnvironment {
+  @AfterEach
+  void removeCache() {
+    OneQueryConfiguration.removePageBoundaryCache();
+  }
+
+  @Test
+  @DisplayName("Sequential pages are read by the seek from the previous page boundary")
+  void test1_1() {
+    var expected = new ArrayList<PaginationResult<Integer>>();
+    for (int page = 0; page < 5; page++) {
+      expected.add(paginateProducts(page, 5));
+    }
+
+    var cache = new PageBoundaryCache(Duration.ofMinutes(1), 10, 100);
+    OneQueryConfiguration.registerPageBoundaryCache(cache);
+    for (int page = 0; page < 5; page++) {
+      assertThat(paginateProducts(page, 5)).isEqualTo(expected.get(page));
+    }
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.stats()).isEqualTo(new PageBoundaryCache.Stats(4, 0, 0));
+  }
+
+  @Test
+  @DisplayName("Boundaries are shared by the pages of different sizes")
+  void test1_2() {
+    var expected = paginateProducts(5, 5);
+
+    var cache = new PageBoundaryCache(Duration.ofMinutes(1), 10, 100);
+    OneQueryConfiguration.registerPageBoundaryCache(cache);
+    paginateProducts(1, 10);
+    var res = paginateProducts(5, 5);
+
+    assertThat(res).isEqualTo(expected);
+    assertThat(cache.stats()).isEqualTo(new PageBoundaryCache.Stats(1, 1, 0));
+  }
+
+  @Test
+  @DisplayName("Deep page without a boundary is read by offset and its boundary is cached")
+  void test1_3() {
+    var expected = paginateProducts(10, 5);
+
+    var cache = new PageBoundaryCache(Duration.ofMinutes(1), 10, 100);
+    OneQueryConfiguration.registerPageBoundaryCache(cache);
+    var res = paginateProducts(10, 5);
+
+    assertThat(res).isEqualTo(expected);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.stats()).isEqualTo(new PageBoundaryCache.Stats(0, 1, 0));
+  }
+
+  @Test
+  @DisplayName("Boundaries of the sort that is not unique by not null fields are not cached")
+  void test1_4() {
+    var cache = new PageBoundaryCache(Duration.ofMinutes(1), 10, 100);
+    OneQueryConfiguration.registerPageBoundaryCache(cache);
+
+    for (int page = 0; page < 3; page++) {
+      OneQuery.query(ctx.selectFrom(PRODUCTS))
+          .sortBy(PRODUCTS.PRICE, PRODUCTS.PRODUCTID)
+          .paginate(page, 5)
+          .toPaginationResult(ProductsRecord::getProductid);
+    }
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.stats()).isEqualTo(new PageBoundaryCache.Stats(0, 0, 0));
+  }
+
+  @Test
+  @DisplayName("Boundaries of the query with a join of the child table are not cached")
+  void test1_5() {
+    var cache = new PageBoundaryCache(Duration.ofMinutes(1), 10, 100);
+    OneQueryConfiguration.registerPageBoundaryCache(cache);
+    var query =
+        ctx.select(CATEGORIES.CATEGORYID, PRODUCTS.PRODUCTID)
+            .from(CATEGORIES)
+            .join(PRODUCTS)
+            .on(PRODUCTS.CATEGORYID.eq(CATEGORIES.CATEGORYID));
+
+    var categoryIds = new ArrayList<Integer>();
+    for (int page = 0; page < 3; page++) {
+      categoryIds.addAll(
+          OneQuery.query(query)
+              .sortBy(CATEGORIES.CATEGORYID)
+              .paginate(page, 5)
+              .toList(Record2::value1));
+    }
+
+    assertThat(categoryIds).containsExactly(1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 2, 2, 2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Expired boundaries are evicted and the page is read by offset")
+  void test2_1() throws InterruptedException {
+    var cache = new PageBoundaryCache(Duration.ofMillis(50), 10, 100);
+    OneQueryConfiguration.registerPageBoundaryCache(cache);
+
+    paginateProducts(0, 5);
+    Thread.sleep(100);
+    paginateProducts(1, 5);
+
+    assertThat(cache.stats()).isEqualTo(new PageBoundaryCache.Stats(0, 1, 1));
+  }
+
+  @Test
+  @DisplayName("The boundary with the smallest position is evicted when the query is full")
+  void test2_2() {
+    var cache = new PageBoundaryCache(Duration.ofMinutes(1), 10, 2);
+    OneQueryConfiguration.registerPageBoundaryCache(cache);
+
+    paginateProducts(0, 5);
+    paginateProducts(4, 5);
+    paginateProducts(8, 5);
+    paginateProducts(1, 5);
+
+    assertThat(cache.stats()).isEqualTo(new PageBoundaryCache.Stats(2, 1, 2));
+  }
+
+  @Test
+  @DisplayName("Try create invalid cache")
+  void test3() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new PageBoundaryCache(Duration.ZERO, 10, 10));
+    assertThrows(
+        IllegalArgumentException.class, () -> new PageBoundaryCache(Duration.ofMinutes(1), 0, 10));
+    assertThrows(
+        IllegalArgumentException.class, () -> new PageBoundaryCache(Duration.ofMinutes(1), 10, 0));
+  }
+
+  private PaginationResult<Integer> paginateProducts(final int page, final int size) {
+    return OneQuery.query(ctx.selectFrom(PRODUCTS))
+        .sortBy(PRODUCTS.PRODUCTID.desc())
+        .paginate(page, size)
+        .toPaginationResult(ProductsRecord::getProductid);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryPageOfTest extends AbstractIsolatedEnvironment {
+  @Test
+  @DisplayName("Page of the row by the count of the preceding rows")
+  void test1_1() {
+    assertThat(pageOfProduct(77)).contains(0L);
+    assertThat(pageOfProduct(1)).contains(7L);
+    assertThat(pageOfProduct(68)).contains(0L);
+    assertThat(pageOfProduct(67)).contains(1L);
+  }
+
+  @Test
+  @DisplayName("Page of each row by row_number() contains the row")
+  void test1_2() {
+    List<Integer> productIds =
+        OneQuery.query(ctx.selectFrom(PRODUCTS)).toList(ProductsRecord::getProductid);
+
+    for (Integer productId : productIds) {
+      var page =
+          OneQuery.query(ctx.selectFrom(PRODUCTS))
+              .sortBy(PRODUCTS.PRICE.desc(), PRODUCTS.PRODUCTID)
+              .pageOf(10, productId);
+      var content =
+          OneQuery.query(ctx.selectFrom(PRODUCTS))
+              .sortBy(PRODUCTS.PRICE.desc(), PRODUCTS.PRODUCTID)
+              .paginate(page.orElseThrow().intValue(), 10)
+              .toPaginationResult(ProductsRecord::getProductid)
+              .content();
+
+      assertThat(content).contains(productId);
+    }
+  }
+
+  @Test
+  @DisplayName("Page of the row is computed under the filters")
+  void test1_3() {
+    var page =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .filterBy(PRODUCTS.CATEGORYID.eq(1))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .pageOf(2, 24);
+    var expected =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .filterBy(PRODUCTS.CATEGORYID.eq(1))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .toList(ProductsRecord::getProductid)
+            .indexOf(24);
+
+    assertThat(page).contains(expected / 2L);
+  }
+
+  @Test
+  @DisplayName("Page of the row that does not match the filters is empty")
+  void test1_4() {
+    var seek =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .filterBy(PRODUCTS.CATEGORYID.eq(1))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .pageOf(5, 3);
+    var rowNumber =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .filterBy(PRODUCTS.CATEGORYID.eq(1))
+            .sortBy(PRODUCTS.PRICE, PRODUCTS.PRODUCTID)
+            .pageOf(5, 3);
+
+    assertThat(seek).isEmpty();
+    assertThat(rowNumber).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Try get page of the row without sort, primary key or with invalid key")
+  void test2_1() {
+    assertThrows(
+        IllegalStateException.class, () -> OneQuery.query(ctx.selectFrom(PRODUCTS)).pageOf(10, 1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            OneQuery.query(
+                    ctx.select(PRODUCTS.CATEGORYID, PRODUCTS.PRODUCTID.count())
+                        .from(PRODUCTS)
+                        .groupBy(PRODUCTS.CATEGORYID))
+                .sortBy(PRODUCTS.CATEGORYID)
+                .pageOf(10, 1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> OneQuery.query(ctx.selectFrom(CATEGORIES)).sortBy(CATEGORIES.CATEGORYID).pageOf(10));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            OneQuery.query(ctx.selectFrom(CATEGORIES)).sortBy(CATEGORIES.CATEGORYID).pageOf(0, 1));
+  }
+
+  @Test
+  @DisplayName("Try get page of the row of the query with a join of the child table")
+  void test2_2() {
+    var seek =
+        OneQuery.query(
+                ctx.select(CATEGORIES.CATEGORYID, PRODUCTS.PRODUCTID)
+                    .from(CATEGORIES)
+                    .join(PRODUCTS)
+                    .on(PRODUCTS.CATEGORYID.eq(CATEGORIES.CATEGORYID)))
+            .sortBy(CATEGORIES.CATEGORYID);
+    var rowNumber =
+        OneQuery.query(
+                ctx.select(CATEGORIES.CATEGORYID, PRODUCTS.PRODUCTID)
+                    .from(CATEGORIES)
+                    .leftJoin(PRODUCTS)
+                    .on(PRODUCTS.CATEGORYID.eq(CATEGORIES.CATEGORYID)))
+            .sortBy(CATEGORIES.CATEGORYNAME, CATEGORIES.CATEGORYID);
+
+    assertThrows(IllegalArgumentException.class, () -> seek.pageOf(5, 1));
+    assertThrows(IllegalArgumentException.class, () -> rowNumber.pageOf(5, 1));
+  }
+
+  @Test
+  @DisplayName("Page of the row of the query with a join of the parent table")
+  void test2_3() {
+    var page =
+        OneQuery.query(
+                ctx.select(PRODUCTS.PRODUCTID, CATEGORIES.CATEGORYNAME)
+                    .from(PRODUCTS)
+                    .join(CATEGORIES)
+                    .on(CATEGORIES.CATEGORYID.eq(PRODUCTS.CATEGORYID)))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .pageOf(10, 25);
+
+    assertThat(page).contains(2L);
+  }
+
+  private Optional<Long> pageOfProduct(final int productId) {
+    return OneQuery.query(ctx.selectFrom(PRODUCTS))
+        .sortBy(PRODUCTS.PRODUCTID.desc())
+        .pageOf(10, productId);
+  }
+}
@@ -16,17 +16,41 @@
 package one.query.api.tests.hikari;
 
 import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.configuration.OneQueryConfiguration;
 import one.query.api.impl.OneQuery;
 import one.query.api.jooq.generated.demo_schema.tables.records.CategoriesRecord;
+import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import one.query.api.model.Count;
 import one.query.api.model.Page;
+import one.query.api.model.TotalType;
+import org.jooq.Condition;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Record2;
+import org.jooq.Record3;
+import org.jooq.SQLDialect;
+import org.jooq.SelectOnConditionStep;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class QueryPaginateTest extends AbstractIsolatedEnvironment {
+  /** The condition evaluated once per query, it makes any query take at least a second */
+  private static final Condition SLOW_CONDITION = DSL.condition("(select true from pg_sleep(1))");
+
   @Test
   @DisplayName("Paginate test (Page)")
   void test1_1() {
@@ -75,4 +99,400 @@ class QueryPaginateTest extends AbstractIsolatedEnvironment {
   void test3_2() {
     assertThrows(IllegalArgumentException.class, () -> new Page(0, 0));
   }
+
+  @Test
+  @DisplayName("Paginate with window count (table record)")
+  void test4_1() {
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .paginate(new Page(1, 5), Count.window())
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(res.number()).isEqualTo(1);
+    assertThat(res.content()).containsExactly(6, 7, 8);
+  }
+
+  @Test
+  @DisplayName("Paginate with window count (selected fields)")
+  void test4_2() {
+    var exact =
+        OneQuery.query(ctx.select(PRODUCTS.PRODUCTID, PRODUCTS.PRICE).from(PRODUCTS))
+            .filterBy(PRODUCTS.CATEGORYID.eq(1))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .paginate(0, 4)
+            .toPaginationResult(record -> record.value1());
+    var window =
+        OneQuery.query(ctx.select(PRODUCTS.PRODUCTID, PRODUCTS.PRICE).from(PRODUCTS))
+            .filterBy(PRODUCTS.CATEGORYID.eq(1))
+            .sortBy(PRODUCTS.PRODUCTID)
+            .paginate(new Page(0, 4), Count.window());
+
+    assertThat(window.getTotal()).isEqualTo(exact.total());
+    assertThat(window.fetch()).allMatch(record -> record.size() == 2);
+    assertThat(window.toList(record -> record.value1())).isEqualTo(exact.content());
+  }
+
+  @Test
+  @DisplayName("Paginate with window count past the end")
+  void test4_3() {
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .paginate(new Page(10, 5), Count.window())
+            .toPaginationResult(CategoriesRecord.class);
+
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(res.content()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Paginate with window count (distinct on)")
+  void test4_4() {
+    var res =
+        OneQuery.query(
+                ctx.select(PRODUCTS.CATEGORYID, PRODUCTS.PRODUCTID)
+                    .distinctOn(PRODUCTS.CATEGORYID)
+                    .from(PRODUCTS))
+            .sortBy(PRODUCTS.CATEGORYID, PRODUCTS.PRODUCTID)
+            .paginate(new Page(0, 5), Count.window())
+            .toPaginationResult(record -> record.value1());
+
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(res.content()).containsExactly(1, 2, 3, 4, 5);
+  }
+
+  @Test
+  @DisplayName("Paginate with concurrent count (virtual threads)")
+  void test5_1() {
+    var exact =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .paginate(1, 3)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+    var concurrent =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .paginate(new Page(1, 3), Count.concurrent())
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(concurrent).isEqualTo(exact);
+  }
+
+  @Test
+  @DisplayName("Paginate with concurrent count (custom executor)")
+  void test5_2() {
+    var tasks = new AtomicInteger();
+    try (var executor = Executors.newFixedThreadPool(2)) {
+      var res =
+          OneQuery.query(ctx.selectFrom(CATEGORIES))
+              .paginate(
+                  new Page(0, 5),
+                  Count.concurrent(
+                      command -> {
+                        tasks.incrementAndGet();
+                        executor.execute(command);
+                      }));
+
+      assertThat(res.getTotal()).isEqualTo(8);
+      assertThat(res.toPaginationResult(CategoriesRecord.class).content()).hasSize(5);
+      assertThat(tasks).hasValue(2);
+    }
+  }
+
+  @Test
+  @DisplayName("Paginate with concurrent count propagates errors")
+  void test5_3() {
+    var step =
+        OneQuery.query(ctx.selectFrom(DSL.table("not_existing_table")))
+            .paginate(new Page(0, 5), Count.concurrent());
+
+    assertThrows(DataAccessException.class, () -> step.toPaginationResult(Object.class));
+  }
+
+  @Test
+  @DisplayName("Paginate with concurrent count propagates the error of the count query")
+  void test5_4() {
+    var failing =
+        DSL.using(
+            ctx.configuration()
+                .derive(
+                    new ExecuteListener() {
+                      @Override
+                      public void executeStart(ExecuteContext context) {
+                        if (context.sql().startsWith("select count(*)")) {
+                          throw new DataAccessException("Count query failed");
+                        }
+                      }
+                    }));
+    var slowField = DSL.field("(select 1 from pg_sleep(1))", Integer.class);
+    var step =
+        OneQuery.query(failing.select(CATEGORIES.CATEGORYID, slowField).from(CATEGORIES))
+            .paginate(new Page(0, 5), Count.concurrent());
+
+    var error = assertThrows(DataAccessException.class, step::fetch);
+    assertThat(error).hasMessageContaining("Count query failed");
+    var again = assertThrows(DataAccessException.class, step::getTotal);
+    assertThat(again).hasMessageContaining("Count query failed");
+  }
+
+  @Test
+  @DisplayName("Paginate with estimated count (table statistics)")
+  void test6_1() {
+    ctx.execute("analyze demo_schema.categories");
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .paginate(new Page(0, 5), Count.estimated())
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(res.totalType()).isEqualTo(TotalType.ESTIMATED);
+    assertThat(res.approximate()).isTrue();
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(res.content()).containsExactly(1, 2, 3, 4, 5);
+  }
+
+  @Test
+  @DisplayName("Paginate with estimated count (query plan)")
+  void test6_2() {
+    ctx.execute("analyze demo_schema.products");
+    var res =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .filterBy(PRODUCTS.CATEGORYID.eq(1))
+            .paginate(new Page(0, 5), Count.estimated())
+            .toPaginationResult(record -> record.getProductid());
+
+    assertThat(res.totalType()).isEqualTo(TotalType.ESTIMATED);
+    assertThat(res.content()).hasSize(5);
+    assertThat(res.total()).isGreaterThanOrEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("Estimated count of queries that change the number of rows of the table")
+  void test6_4() {
+    ctx.execute("analyze demo_schema.products");
+    var aggregate =
+        OneQuery.query(ctx.select(DSL.count()).from(PRODUCTS))
+            .paginate(new Page(0, 5), Count.estimated())
+            .toPaginationResult(record -> record.value1());
+    var distinctOn =
+        OneQuery.query(
+                ctx.select(PRODUCTS.CATEGORYID, PRODUCTS.PRODUCTID)
+                    .distinctOn(PRODUCTS.CATEGORYID)
+                    .from(PRODUCTS))
+            .sortBy(PRODUCTS.CATEGORYID, PRODUCTS.PRODUCTID)
+            .paginate(new Page(0, 5), Count.estimated())
+            .toPaginationResult(record -> record.value1());
+
+    assertThat(aggregate.total()).isEqualTo(1);
+    assertThat(mapper.estimateCount(ctx, ctx.select(DSL.count()).from(PRODUCTS))).isEqualTo(1);
+    assertThat(distinctOn.total()).isLessThan(77);
+    assertThat(mapper.estimateCount(ctx, ctx.selectFrom(PRODUCTS).limit(3))).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Paginate with estimated count without a mapper falls back to exact count")
+  void test6_3() {
+    OneQueryConfiguration.removeMapper(SQLDialect.POSTGRES);
+    try {
+      var res =
+          OneQuery.query(ctx.selectFrom(CATEGORIES))
+              .paginate(new Page(0, 5), Count.estimated())
+              .toPaginationResult(CategoriesRecord.class);
+
+      assertThat(res.totalType()).isEqualTo(TotalType.EXACT);
+      assertThat(res.total()).isEqualTo(8);
+    } finally {
+      mapper.register();
+    }
+  }
+
+  @Test
+  @DisplayName("Paginate with capped count exceeding the cap")
+  void test7_1() {
+    var res =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .paginate(new Page(0, 5), Count.capped(50))
+            .toPaginationResult(record -> record.getProductid());
+
+    assertThat(res.total()).isEqualTo(50);
+    assertThat(res.totalType()).isEqualTo(TotalType.LOWER_BOUND);
+    assertThat(res.content()).hasSize(5);
+  }
+
+  @Test
+  @DisplayName("Paginate with capped count below the cap")
+  void test7_2() {
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .paginate(new Page(0, 5), Count.capped(8))
+            .toPaginationResult(CategoriesRecord.class);
+
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(res.totalType()).isEqualTo(TotalType.EXACT);
+  }
+
+  @Test
+  @DisplayName("Try create capped count, cap is less 1")
+  void test7_3() {
+    assertThrows(IllegalArgumentException.class, () -> Count.capped(0));
+  }
+
+  @Test
+  @DisplayName("Paginate with time-boxed count within the budget")
+  void test8_1() {
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .paginate(new Page(0, 5), Count.timeBoxed(Duration.ofSeconds(5)))
+            .toPaginationResult(CategoriesRecord.class);
+
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(res.totalType()).isEqualTo(TotalType.EXACT);
+  }
+
+  @Test
+  @DisplayName("Paginate with time-boxed count falls back to estimate")
+  void test8_2() {
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .filterBy(SLOW_CONDITION)
+            .paginate(new Page(0, 5), Count.timeBoxed(Duration.ofMillis(100)))
+            .toPaginationResult(CategoriesRecord.class);
+
+    assertThat(res.totalType()).isEqualTo(TotalType.ESTIMATED);
+    assertThat(res.content()).hasSize(5);
+  }
+
+  @Test
+  @DisplayName("Paginate with time-boxed count without a mapper returns unknown total")
+  void test8_3() {
+    OneQueryConfiguration.removeMapper(SQLDialect.POSTGRES);
+    try {
+      var step =
+          OneQuery.query(ctx.selectFrom(CATEGORIES))
+              .filterBy(SLOW_CONDITION)
+              .paginate(new Page(0, 5), Count.timeBoxed(Duration.ofMillis(100)));
+
+      assertThat(step.getTotal()).isEqualTo(-1L);
+      var res = step.toPaginationResult(CategoriesRecord.class);
+      assertThat(res.totalType()).isEqualTo(TotalType.UNKNOWN);
+      assertThat(res.total()).isEqualTo(-1);
+      assertThat(res.content()).hasSize(5);
+    } finally {
+      mapper.register();
+    }
+  }
+
+  @Test
+  @DisplayName("Paginate with deferred join returns the same page")
+  void test9_1() {
+    var executed = new ArrayList<String>();
+    var listened = DSL.using(ctx.configuration().derive(onExecute(executed)));
+    // OneQuery modifies the wrapped query, so each one gets a new query
+    Supplier<SelectOnConditionStep<Record3<Integer, String, String>>> query =
+        () ->
+            listened
+                .select(PRODUCTS.PRODUCTID, PRODUCTS.PRODUCTNAME, CATEGORIES.CATEGORYNAME)
+                .from(PRODUCTS)
+                .join(CATEGORIES)
+                .on(CATEGORIES.CATEGORYID.eq(PRODUCTS.CATEGORYID));
+
+    var expected =
+        OneQuery.query(query.get())
+            .filterBy(PRODUCTS.PRICE.gt(BigInteger.TEN))
+            .sortBy(PRODUCTS.PRICE.desc(), PRODUCTS.PRODUCTID)
+            .paginate(2, 10)
+            .toPaginationResult(Record3::value1);
+    var res =
+        OneQuery.query(query.get())
+            .filterBy(PRODUCTS.PRICE.gt(BigInteger.TEN))
+            .sortBy(PRODUCTS.PRICE.desc(), PRODUCTS.PRODUCTID)
+            .deferJoin()
+            .paginate(2, 10)
+            .toPaginationResult(Record3::value1);
+
+    assertThat(res.content()).hasSize(10).isEqualTo(expected.content());
+    assertThat(res.total()).isEqualTo(expected.total());
+    assertThat(executed.getLast()).containsIgnoringCase("in (select");
+  }
+
+  @Test
+  @DisplayName("Slice with deferred join returns the same page")
+  void test9_2() {
+    var expected =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .sortBy(PRODUCTS.PRODUCTNAME, PRODUCTS.PRODUCTID)
+            .slice(3, 10)
+            .toSliceResult(ProductsRecord::getProductid);
+    var res =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .sortBy(PRODUCTS.PRODUCTNAME, PRODUCTS.PRODUCTID)
+            .deferJoin()
+            .slice(3, 10)
+            .toSliceResult(ProductsRecord::getProductid);
+
+    assertThat(res.content()).isEqualTo(expected.content());
+    assertThat(res.hasNext()).isEqualTo(expected.hasNext());
+  }
+
+  @Test
+  @DisplayName("Paginate with deferred join keeps the query with group by")
+  void test9_3() {
+    var executed = new ArrayList<String>();
+    var listened = DSL.using(ctx.configuration().derive(onExecute(executed)));
+    var res =
+        OneQuery.query(
+                listened
+                    .select(PRODUCTS.CATEGORYID, DSL.count())
+                    .from(PRODUCTS)
+                    .groupBy(PRODUCTS.CATEGORYID))
+            .sortBy(PRODUCTS.CATEGORYID)
+            .deferJoin()
+            .paginate(0, 5)
+            .toPaginationResult(Record2::value1);
+
+    assertThat(res.content()).containsExactly(1, 2, 3, 4, 5);
+    assertThat(res.total()).isEqualTo(8);
+    assertThat(executed.getLast()).doesNotContainIgnoringCase("in (select");
+  }
+
+  @Test
+  @DisplayName("Paginate with deferred join keeps the query with a join of the child table")
+  void test9_4() {
+    var executed = new ArrayList<String>();
+    var listened = DSL.using(ctx.configuration().derive(onExecute(executed)));
+    // OneQuery modifies the wrapped query, so each one gets a new query
+    Supplier<SelectOnConditionStep<Record2<Integer, Integer>>> query =
+        () ->
+            listened
+                .select(CATEGORIES.CATEGORYID, PRODUCTS.PRODUCTID)
+                .from(CATEGORIES)
+                .join(PRODUCTS)
+                .on(PRODUCTS.CATEGORYID.eq(CATEGORIES.CATEGORYID));
+
+    var expected =
+        OneQuery.query(query.get())
+            .sortBy(CATEGORIES.CATEGORYID, PRODUCTS.PRODUCTID)
+            .paginate(1, 5)
+            .toPaginationResult(Record2::value2);
+    var res =
+        OneQuery.query(query.get())
+            .sortBy(CATEGORIES.CATEGORYID, PRODUCTS.PRODUCTID)
+            .deferJoin()
+            .paginate(1, 5)
+            .toPaginationResult(Record2::value2);
+
+    assertThat(res.content()).hasSize(5).isEqualTo(expected.content());
+    assertThat(res.total()).isEqualTo(expected.total());
+    assertThat(executed.getLast()).doesNotContainIgnoringCase("in (select");
+  }
+
+  private static ExecuteListener onExecute(final List<String> executed) {
+    return new ExecuteListener() {
+      @Override
+      public void executeStart(ExecuteContext context) {
+        executed.add(context.sql());
+      }
+    };
+  }
 }
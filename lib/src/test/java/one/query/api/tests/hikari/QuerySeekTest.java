@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
+import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.records.CategoriesRecord;
+import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
+import one.query.api.model.Page;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuerySeekTest extends AbstractIsolatedEnvironment {
+  @Test
+  @DisplayName("Seek first page and follow the next cursor")
+  void test1_1() {
+    var first =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .seek(null, 3)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(first.content()).containsExactly(1, 2, 3);
+    assertThat(first.total()).isEqualTo(8);
+    assertThat(first.number()).isZero();
+    assertThat(first.nextCursor()).isNotNull();
+    assertThat(first.previousCursor()).isNull();
+
+    var second =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .seek(first.nextCursor(), 3)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(second.content()).containsExactly(4, 5, 6);
+    assertThat(second.number()).isEqualTo(1);
+    assertThat(second.previousCursor()).isNotNull();
+
+    var third =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .seek(second.nextCursor(), 3)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(third.content()).containsExactly(7, 8);
+    assertThat(third.nextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("Seek back with the previous cursor")
+  void test1_2() {
+    var first =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID.desc())
+            .seek(null, 3)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+    var second =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID.desc())
+            .seek(first.nextCursor(), 3)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+    var back =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID.desc())
+            .seek(second.previousCursor(), 3)
+            .toPaginationResult(CategoriesRecord::getCategoryid);
+
+    assertThat(second.content()).containsExactly(5, 4, 3);
+    assertThat(back.content()).containsExactly(8, 7, 6);
+    assertThat(back.number()).isZero();
+    assertThat(back.previousCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("Seek with last seen values matches offset pagination (mixed sort directions)")
+  void test2() {
+    var offset =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .sortBy(PRODUCTS.PRICE.asc(), PRODUCTS.PRODUCTID.desc())
+            .paginate(3, 10)
+            .toPaginationResult(ProductsRecord::getProductid);
+    var previous =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .sortBy(PRODUCTS.PRICE.asc(), PRODUCTS.PRODUCTID.desc())
+            .paginate(2, 10)
+            .toList(ProductsRecord.class)
+            .getLast();
+
+    var keyset =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .sortBy(PRODUCTS.PRICE.asc(), PRODUCTS.PRODUCTID.desc())
+            .seek(new Page(3, 10), previous.getPrice(), previous.getProductid())
+            .toPaginationResult(ProductsRecord::getProductid);
+
+    assertThat(keyset.content()).isEqualTo(offset.content());
+    assertThat(keyset.total()).isEqualTo(offset.total());
+    assertThat(keyset.number()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Seek without sort fields")
+  void test3_1() {
+    var query = OneQuery.query(ctx.selectFrom(CATEGORIES));
+    assertThrows(IllegalStateException.class, () -> query.seek(null, 3));
+  }
+
+  @Test
+  @DisplayName("Seek with invalid cursor")
+  void test3_2() {
+    var query = OneQuery.query(ctx.selectFrom(CATEGORIES)).sortBy(CATEGORIES.CATEGORYID);
+    assertThrows(IllegalArgumentException.class, () -> query.seek("invalid", 3));
+  }
+}
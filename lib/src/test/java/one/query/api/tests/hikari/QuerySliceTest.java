@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 One Query API contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package one.query.api.tests.hikari;
+
+import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import one.query.api.AbstractIsolatedEnvironment;
+import one.query.api.impl.OneQuery;
+import one.query.api.jooq.generated.demo_schema.tables.pojos.Categories;
+import one.query.api.jooq.generated.demo_schema.tables.records.CategoriesRecord;
+import one.query.api.model.Page;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuerySliceTest extends AbstractIsolatedEnvironment {
+  @Test
+  @DisplayName("Slice with next page")
+  void test1_1() {
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .slice(new Page(0, 5))
+            .toSliceResult(CategoriesRecord::getCategoryid);
+
+    assertThat(res.content()).containsExactly(1, 2, 3, 4, 5);
+    assertThat(res.number()).isZero();
+    assertThat(res.hasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Last slice (class)")
+  void test1_2() {
+    var res =
+        OneQuery.query(ctx.selectFrom(CATEGORIES))
+            .sortBy(CATEGORIES.CATEGORYID)
+            .slice(1, 4)
+            .toSliceResult(Categories.class);
+
+    assertThat(res.content()).extracting(Categories::getCategoryid).containsExactly(5, 6, 7, 8);
+    assertThat(res.number()).isEqualTo(1);
+    assertThat(res.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Slice collect methods do not return the extra row")
+  void test1_3() {
+    var step = OneQuery.query(ctx.selectFrom(CATEGORIES)).sortBy(CATEGORIES.CATEGORYID).slice(0, 3);
+
+    assertThat(step.fetch()).hasSize(3);
+    assertThat(step.toList(CategoriesRecord::getCategoryid)).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("Slice does not execute the count query")
+  void test2() {
+    var executed = new AtomicInteger();
+    var listened =
+        DSL.using(
+            ctx.configuration()
+                .derive(
+                    new ExecuteListener() {
+                      @Override
+                      public void executeStart(ExecuteContext context) {
+                        executed.incrementAndGet();
+                      }
+                    }));
+
+    OneQuery.query(listened.selectFrom(CATEGORIES))
+        .slice(0, 3)
+        .toSliceResult(CategoriesRecord::getCategoryid);
+
+    assertThat(executed).hasValue(1);
+  }
+}
@@ -15,16 +15,20 @@
  */
 package one.query.api.tests.hikari;
 
+import static one.query.api.jooq.generated.demo_schema.Tables.CATEGORIES;
 import static one.query.api.jooq.generated.demo_schema.Tables.PRODUCTS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.List;
 import one.query.api.AbstractIsolatedEnvironment;
 import one.query.api.impl.OneQuery;
 import one.query.api.jooq.generated.demo_schema.tables.records.ProductsRecord;
 import one.query.api.model.Sort;
+import org.jooq.Record2;
 import org.jooq.SortOrder;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -162,4 +166,73 @@ class QuerySortTest extends AbstractIsolatedEnvironment {
     var query = OneQuery.query(ctx.selectFrom(PRODUCTS));
     assertThrows(IllegalArgumentException.class, () -> query.sort(sort));
   }
+
+  @Test
+  @DisplayName("Stable sort appends the primary key to a non-unique sort")
+  void test4_1() {
+    var ids = new ArrayList<Integer>();
+    for (int page = 0; page < 8; page++) {
+      var step =
+          OneQuery.query(ctx.selectFrom(PRODUCTS))
+              .sort(new Sort(PRODUCTS.PRICE, SortOrder.DESC))
+              .stableSort()
+              .paginate(page, 10);
+
+      assertThat(step.isSortIndexed()).isFalse();
+      ids.addAll(step.toPaginationResult(ProductsRecord::getProductid).content());
+    }
+
+    var expected =
+        ctx.selectFrom(PRODUCTS)
+            .orderBy(PRODUCTS.PRICE.desc(), PRODUCTS.PRODUCTID.asc())
+            .fetch(PRODUCTS.PRODUCTID);
+    assertThat(ids).hasSize(77).doesNotHaveDuplicates().isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("Stable sort keeps a unique sort and reports the primary key index")
+  void test4_2() {
+    var step =
+        OneQuery.query(ctx.selectFrom(PRODUCTS))
+            .sort(new Sort(PRODUCTS.PRODUCTID, SortOrder.DESC))
+            .stableSort()
+            .paginate(0, 5);
+
+    assertThat(step.isSortIndexed()).isTrue();
+    assertThat(step.toPaginationResult(ProductsRecord::getProductid).content())
+        .containsExactly(77, 76, 75, 74, 73);
+  }
+
+  @Test
+  @DisplayName("Stable sort keeps the sort of a query with group by")
+  void test4_3() {
+    var step =
+        OneQuery.query(
+                ctx.select(PRODUCTS.CATEGORYID, DSL.count())
+                    .from(PRODUCTS)
+                    .groupBy(PRODUCTS.CATEGORYID))
+            .sortBy(PRODUCTS.CATEGORYID)
+            .stableSort()
+            .paginate(0, 3);
+
+    assertThat(step.isSortIndexed()).isNull();
+    assertThat(step.toPaginationResult(Record2::value1).content()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("Stable sort keeps the sort of a query with a join of the child table")
+  void test4_4() {
+    var step =
+        OneQuery.query(
+                ctx.select(CATEGORIES.CATEGORYNAME, PRODUCTS.PRODUCTID)
+                    .from(CATEGORIES)
+                    .join(PRODUCTS)
+                    .on(PRODUCTS.CATEGORYID.eq(CATEGORIES.CATEGORYID)))
+            .sortBy(CATEGORIES.CATEGORYNAME)
+            .stableSort()
+            .paginate(0, 5);
+
+    assertThat(step.isSortIndexed()).isNull();
+    assertThat(step.toPaginationResult(Record2::value2).content()).hasSize(5);
+  }
 }